@@ -0,0 +1,51 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.TransferFee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain level: {@link Money} arithmetic in {@link Account} and the transfer fee computation, no I/O involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    private Account account;
+    private Money amount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = new Account("1234567890");
+        account.deposit(Money.ofMajor(1_000_000_000));
+        amount = Money.ofMinor(1_234_567);
+    }
+
+    @Benchmark
+    public Money depositThenWithdraw() {
+        account.deposit(amount);
+        account.withdraw(amount);
+        return account.getBalance();
+    }
+
+    @Benchmark
+    public Money transferFee() {
+        return TransferFee.calculate(amount);
+    }
+
+    @Benchmark
+    public Money transferDebit() {
+        // What TransactionService.transfer does to the source account: fee, total deduction, withdraw, refund
+        Money totalDeduction = amount.plus(TransferFee.calculate(amount));
+        account.withdraw(totalDeduction);
+        account.deposit(totalDeduction);
+        return account.getBalance();
+    }
+}
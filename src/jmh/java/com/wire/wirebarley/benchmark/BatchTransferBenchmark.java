@@ -0,0 +1,65 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.dto.BatchTransferRequest;
+import com.wire.wirebarley.dto.BatchTransferResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same N transfers sent as one batch (one transaction, every account locked once, daily limits loaded with
+ * one query) vs one {@link TransactionService#transfer} call each. Both report the time for all N transfers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchTransferBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+    @Param({"10", "100", "1000"})
+    public int transfers;
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+    private BatchTransferRequest batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        transactionService = context.transactionService();
+        String[] accounts = context.createFundedAccounts(transfers + 1);
+
+        List<TransferRequest> requests = new ArrayList<>(transfers);
+        for (int i = 0; i < transfers; i++) {
+            requests.add(new TransferRequest(accounts[i], accounts[i + 1], AMOUNT));
+        }
+        batch = new BatchTransferRequest(requests);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BatchTransferResponse transferBatch() {
+        return transactionService.transferBatch(batch);
+    }
+
+    @Benchmark
+    public void transferOneByOne(Blackhole blackhole) {
+        for (TransferRequest transfer : batch.transfers()) {
+            blackhole.consume(transactionService.transfer(transfer));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.WirebarleyApplication;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application without the web layer against a private in-memory H2 database,
+ * with SQL and per-operation logging turned off so they do not dominate the measurements.
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000");
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static BenchmarkContext start(String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.com.wire.wirebarley=WARN"
+        ));
+        properties.addAll(List.of(extraProperties));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WirebarleyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+        return new BenchmarkContext(context);
+    }
+
+    AccountService accountService() {
+        return context.getBean(AccountService.class);
+    }
+
+    TransactionService transactionService() {
+        return context.getBean(TransactionService.class);
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Creates {@code count} funded accounts and returns their account numbers.
+     */
+    String[] createFundedAccounts(int count) {
+        String[] accountNumbers = new String[count];
+        for (int i = 0; i < count; i++) {
+            accountNumbers[i] = String.valueOf(1_000_000_000L + i);
+            accountService().createAccount(new AccountCreateRequest(accountNumbers[i]));
+            transactionService().deposit(new DepositRequest(accountNumbers[i], INITIAL_BALANCE));
+        }
+        return accountNumbers;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
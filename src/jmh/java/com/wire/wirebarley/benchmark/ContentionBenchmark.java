@@ -0,0 +1,79 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention: N threads either all hitting one hot account (lock hand-off bound) or spread uniformly
+ * over many accounts, on the JPA path and on the partitioned ledger engine.
+ * Thread count can be changed with {@code -PjmhArgs="-t 16"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+    private static final int ACCOUNT_COUNT = 64;
+
+    @Param({"HOT", "UNIFORM"})
+    public String distribution;
+
+    @Param({"false", "true"})
+    public boolean ledgerEngine;
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+    private String[] accounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("wirebarley.ledger-engine.enabled=" + ledgerEngine);
+        transactionService = context.transactionService();
+        accounts = context.createFundedAccounts(ACCOUNT_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponse deposit() {
+        return transactionService.deposit(new DepositRequest(pickAccount(), AMOUNT));
+    }
+
+    @Benchmark
+    public TransferResponse transfer() {
+        String source = pickAccount();
+        String target = pickOther(source);
+        return transactionService.transfer(new TransferRequest(source, target, AMOUNT));
+    }
+
+    private String pickAccount() {
+        if ("HOT".equals(distribution)) {
+            return accounts[0];
+        }
+        return accounts[ThreadLocalRandom.current().nextInt(ACCOUNT_COUNT)];
+    }
+
+    private String pickOther(String source) {
+        String target = accounts[ThreadLocalRandom.current().nextInt(ACCOUNT_COUNT)];
+        while (target.equals(source)) {
+            target = accounts[ThreadLocalRandom.current().nextInt(ACCOUNT_COUNT)];
+        }
+        return target;
+    }
+}
@@ -0,0 +1,78 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransactionHistoryResponse;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.service.TransactionService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One 100-row history page read through the projection query ({@code historyPage}) versus the previous path that
+ * loads managed {@link Transaction} entities and copies them into responses ({@code historyPageEntities}).
+ * Run with the GC profiler to compare allocation per page:
+ * {@code ./gradlew jmh -PjmhIncludes=HistoryReadBenchmark -PjmhArgs="-prof gc"} (see {@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryReadBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int DEPOSITS = 1000;
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+    private TransactionTemplate readOnlyTemplate;
+    private EntityManager entityManager;
+    private String account;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        transactionService = context.transactionService();
+        account = context.createFundedAccounts(1)[0];
+        for (int i = 0; i < DEPOSITS; i++) {
+            transactionService.deposit(new DepositRequest(account, BigDecimal.ONE));
+        }
+
+        readOnlyTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTemplate.setReadOnly(true);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionHistoryResponse historyPage() {
+        return transactionService.getTransactionHistory(account, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> historyPageEntities() {
+        return readOnlyTemplate.execute(status -> entityManager
+                .createQuery("SELECT t FROM Transaction t WHERE t.accountNumber = :accountNumber " +
+                        "ORDER BY t.createdAt DESC, t.id DESC", Transaction.class)
+                .setParameter("accountNumber", account)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultStream()
+                .map(TransactionResponse::new)
+                .toList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.dto.BatchTransferRequest;
+import com.wire.wirebarley.dto.BatchTransferResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ledger row inserts with and without JDBC batching. With sequence ids the two rows of a transfer (and the
+ * 2 x N rows of a batch) are flushed together; {@code jdbcBatchSize=1} sends them one statement at a time.
+ * Compare against a run of the previous commit (IDENTITY ids) with {@code -PjmhResultName}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LedgerInsertBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+    private static final int BATCH_ITEMS = 20;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+    private TransferRequest transfer;
+    private BatchTransferRequest batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        transactionService = context.transactionService();
+        String[] accounts = context.createFundedAccounts(BATCH_ITEMS + 1);
+        transfer = new TransferRequest(accounts[0], accounts[1], AMOUNT);
+
+        List<TransferRequest> transfers = new ArrayList<>(BATCH_ITEMS);
+        for (int i = 0; i < BATCH_ITEMS; i++) {
+            transfers.add(new TransferRequest(accounts[i], accounts[i + 1], AMOUNT));
+        }
+        batch = new BatchTransferRequest(transfers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransferResponse transfer() {
+        return transactionService.transfer(transfer);
+    }
+
+    @Benchmark
+    public BatchTransferResponse transferBatch() {
+        return transactionService.transferBatch(batch);
+    }
+}
@@ -0,0 +1,86 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.TransferFee;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The arithmetic of one transfer (fee, total deduction, daily limit and balance checks, debit and credit) on
+ * {@link BigDecimal}, as the services did before {@link Money}, against the same steps on {@link Money}.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the allocation per transfer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.01");
+    private static final BigDecimal DAILY_TRANSFER_LIMIT = new BigDecimal("3000000");
+    private static final Money DAILY_TRANSFER_LIMIT_MONEY = Money.ofMajor(3_000_000);
+
+    private BigDecimal amount;
+    private BigDecimal sourceBalance;
+    private BigDecimal targetBalance;
+    private BigDecimal transferredToday;
+
+    private Money amountMoney;
+    private Money sourceBalanceMoney;
+    private Money targetBalanceMoney;
+    private Money transferredTodayMoney;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        amount = new BigDecimal("12345.67");
+        sourceBalance = new BigDecimal("1000000000.00");
+        targetBalance = BigDecimal.ZERO;
+        transferredToday = BigDecimal.ZERO;
+
+        amountMoney = Money.of(amount);
+        sourceBalanceMoney = Money.of(sourceBalance);
+        targetBalanceMoney = Money.ZERO;
+        transferredTodayMoney = Money.ZERO;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTransfer() {
+        BigDecimal fee = amount.multiply(FEE_RATE).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal totalDeduction = amount.add(fee);
+        if (transferredToday.add(amount).compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+            // Keeps the daily total bounded over the iteration, like a new day
+            transferredToday = BigDecimal.ZERO;
+        }
+        if (sourceBalance.compareTo(totalDeduction) < 0) {
+            throw new IllegalStateException("Insufficient balance");
+        }
+        sourceBalance = sourceBalance.subtract(totalDeduction);
+        targetBalance = targetBalance.add(amount);
+        transferredToday = transferredToday.add(amount);
+        // Refund, so the source balance never runs out during the iteration
+        sourceBalance = sourceBalance.add(totalDeduction);
+        return fee;
+    }
+
+    @Benchmark
+    public Money moneyTransfer() {
+        Money fee = TransferFee.calculate(amountMoney);
+        Money totalDeduction = amountMoney.plus(fee);
+        if (transferredTodayMoney.plus(amountMoney).isGreaterThan(DAILY_TRANSFER_LIMIT_MONEY)) {
+            transferredTodayMoney = Money.ZERO;
+        }
+        if (sourceBalanceMoney.isLessThan(totalDeduction)) {
+            throw new IllegalStateException("Insufficient balance");
+        }
+        sourceBalanceMoney = sourceBalanceMoney.minus(totalDeduction);
+        targetBalanceMoney = targetBalanceMoney.plus(amountMoney);
+        transferredTodayMoney = transferredTodayMoney.plus(amountMoney);
+        sourceBalanceMoney = sourceBalanceMoney.plus(totalDeduction);
+        return fee;
+    }
+}
@@ -0,0 +1,82 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.StatementResponse;
+import com.wire.wirebarley.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statement pages (one account, 30-day window, newest first) against a large {@code transactions} table.
+ * Rows are spread over {@value #ACCOUNTS} accounts and four types. Setup fails, showing the H2 plan, if either
+ * query's plan does not use its composite index, so latency here should stay flat as {@code rows} grows:
+ * {@code ./gradlew jmh -PjmhIncludes=StatementQueryBenchmark -PjmhArgs="-p rows=1000000,20000000"} (the larger
+ * table needs a few GB of heap for the in-memory database).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementQueryBenchmark {
+
+    private static final int ACCOUNTS = 1000;
+    private static final String ACCOUNT = "2000000000";
+    private static final String FROM = "2024-03-01";
+    private static final String TO = "2024-03-31";
+
+    @Param({"1000000"})
+    public int rows;
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        transactionService = context.transactionService();
+        context.accountService().createAccount(new AccountCreateRequest(ACCOUNT));
+
+        // One row per second from 2024-01-01; ids outside the sequence's range since nothing else inserts here
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO transactions (id, account_number, type, amount, balance_after, " +
+                "target_account_number, fee, created_at, description) " +
+                "SELECT 1000000000 + X, CAST(2000000000 + MOD(X, " + ACCOUNTS + ") AS VARCHAR), " +
+                "CASE MOD(X / " + ACCOUNTS + ", 4) WHEN 0 THEN 'DEPOSIT' WHEN 1 THEN 'WITHDRAWAL' " +
+                "WHEN 2 THEN 'TRANSFER_OUT' ELSE 'TRANSFER_IN' END, 1000, NULL, NULL, NULL, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 'Benchmark' " +
+                "FROM SYSTEM_RANGE(1, " + rows + ")");
+        jdbcTemplate.execute("ANALYZE");
+
+        requireIndex(jdbcTemplate, "", "IDX_ACCOUNT_CREATED_ID");
+        requireIndex(jdbcTemplate, "AND type = 'DEPOSIT' ", "IDX_ACCOUNT_TYPE_CREATED_ID");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StatementResponse statementPage() {
+        return transactionService.getStatement(ACCOUNT, FROM, TO, null, null, 50);
+    }
+
+    @Benchmark
+    public StatementResponse statementPageByType() {
+        return transactionService.getStatement(ACCOUNT, FROM, TO, "DEPOSIT", null, 50);
+    }
+
+    private static void requireIndex(JdbcTemplate jdbcTemplate, String typeFilter, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM transactions " +
+                "WHERE account_number = '" + ACCOUNT + "' " + typeFilter +
+                "AND created_at >= TIMESTAMP '2024-03-01 00:00:00' AND created_at < TIMESTAMP '2024-03-31 00:00:00' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 51", String.class);
+        if (plan == null || !plan.toUpperCase().contains(index)) {
+            throw new IllegalStateException("Statement query does not use " + index + ":\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.wire.wirebarley.benchmark;
+
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.dto.WithdrawalRequest;
+import com.wire.wirebarley.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service level: a single caller running the full {@link TransactionService} paths
+ * (locks, daily limits, ledger inserts) against in-memory H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    // Small enough that the daily withdrawal/transfer limits are never reached during a run
+    private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+    private BenchmarkContext context;
+    private TransactionService transactionService;
+    private String source;
+    private String target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        transactionService = context.transactionService();
+        String[] accounts = context.createFundedAccounts(2);
+        source = accounts[0];
+        target = accounts[1];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponse deposit() {
+        return transactionService.deposit(new DepositRequest(source, AMOUNT));
+    }
+
+    @Benchmark
+    public TransactionResponse withdraw() {
+        return transactionService.withdraw(new WithdrawalRequest(source, AMOUNT));
+    }
+
+    @Benchmark
+    public TransferResponse transfer() {
+        return transactionService.transfer(new TransferRequest(source, target, AMOUNT));
+    }
+}
@@ -0,0 +1,65 @@
+package com.wire.wirebarley.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for one operation. Latencies are recorded from the intended (scheduled)
+ * start time, not the actual send time, so a stalled server is not hidden by coordinated omission.
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder ioErrors = new LongAdder();
+
+    public void record(long latencyNanos, int status) {
+        recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    public void recordIoError() {
+        ioErrors.increment();
+    }
+
+    public void reset() {
+        recorder.reset();
+        success.reset();
+        clientErrors.reset();
+        serverErrors.reset();
+        ioErrors.reset();
+    }
+
+    public Histogram snapshot() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long success() {
+        return success.sum();
+    }
+
+    public long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    public long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    public long ioErrors() {
+        return ioErrors.sum();
+    }
+}
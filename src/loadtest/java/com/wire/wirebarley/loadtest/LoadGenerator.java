@@ -0,0 +1,205 @@
+package com.wire.wirebarley.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for the account and transaction APIs.
+ *
+ * <p>Requests are issued on a fixed arrival schedule ({@code --rate} per second) regardless of how fast the
+ * server answers, with accounts drawn from a Zipfian distribution so a few hot accounts see most of the
+ * traffic. This is what exposes tail latency from lock contention on hot account rows.
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--rate=500 --duration=60 --zipf=1.2 --mix=deposit=50,transfer=50"
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ZipfianSelector selector;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+    private final Semaphore inFlight;
+    private final LongAdder dropped = new LongAdder();
+
+    public LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.selector = new ZipfianSelector(config.accounts(), config.zipfExponent());
+        this.inFlight = new Semaphore(config.maxInFlight());
+        this.weightedOperations = config.mix().entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        LoadGenerator generator = new LoadGenerator(config);
+        if (config.setupAccounts()) {
+            generator.setUpAccounts();
+        }
+        generator.run();
+    }
+
+    void setUpAccounts() throws Exception {
+        System.out.printf("Creating and funding %d accounts...%n", config.accounts());
+        for (int i = 0; i < config.accounts(); i++) {
+            String accountNumber = config.accountNumber(i);
+            send(post("/api/accounts", "{\"accountNumber\":\"" + accountNumber + "\"}"));
+            send(post("/api/transactions/deposit",
+                    "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":100000000}"));
+        }
+    }
+
+    void run() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond());
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+        boolean measuring = false;
+
+        System.out.printf("Running %.0f req/s for %ds (+%ds warmup) against %s%n",
+                config.ratePerSecond(), config.duration().toSeconds(), config.warmup().toSeconds(),
+                config.baseUrl());
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            if (!measuring && intendedStart >= measureStart) {
+                stats.values().forEach(EndpointStats::reset);
+                dropped.reset();
+                measuring = true;
+            }
+
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(intendedStart);
+        }
+
+        // Let outstanding requests finish so their (possibly very slow) latencies are counted
+        inFlight.tryAcquire(config.maxInFlight(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        report(Duration.ofNanos(end - measureStart));
+    }
+
+    private void fire(long intendedStart) {
+        if (!inFlight.tryAcquire()) {
+            dropped.increment();
+            return;
+        }
+
+        Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+        EndpointStats endpointStats = stats.get(operation);
+        httpClient.sendAsync(buildRequest(operation), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    try {
+                        if (error != null) {
+                            endpointStats.recordIoError();
+                        } else {
+                            endpointStats.record(System.nanoTime() - intendedStart, response.statusCode());
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        int account = selector.next();
+        String accountNumber = config.accountNumber(account);
+        String amount = String.format(Locale.ROOT, "%d.%02d",
+                ThreadLocalRandom.current().nextInt(1, 100), ThreadLocalRandom.current().nextInt(100));
+
+        return switch (operation) {
+            case DEPOSIT -> post("/api/transactions/deposit",
+                    "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":" + amount + "}");
+            case WITHDRAW -> post("/api/transactions/withdraw",
+                    "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":" + amount + "}");
+            case TRANSFER -> post("/api/transactions/transfer",
+                    "{\"sourceAccountNumber\":\"" + accountNumber + "\",\"targetAccountNumber\":\""
+                            + config.accountNumber(selector.nextOtherThan(account)) + "\",\"amount\":" + amount + "}");
+            case HISTORY -> HttpRequest.newBuilder(uri("/api/transactions/history/" + accountNumber + "?limit=20"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        };
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return config.baseUrl().resolve(path);
+    }
+
+    private void send(HttpRequest request) throws Exception {
+        httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private void report(Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s %8s %8s %8s%n",
+                "operation", "count", "ops/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "4xx", "5xx", "io-err");
+
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.snapshot();
+            if (histogram.getTotalCount() == 0 && endpointStats.ioErrors() == 0) {
+                continue;
+            }
+            System.out.printf(Locale.ROOT, "%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d %8d %8d%n",
+                    entry.getKey().name().toLowerCase(Locale.ROOT),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    endpointStats.clientErrors(),
+                    endpointStats.serverErrors(),
+                    endpointStats.ioErrors());
+        }
+
+        if (dropped.sum() > 0) {
+            System.out.printf("%nDropped %d arrivals: more than %d requests were in flight%n",
+                    dropped.sum(), config.maxInFlight());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
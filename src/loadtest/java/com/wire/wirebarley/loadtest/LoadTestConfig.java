@@ -0,0 +1,68 @@
+package com.wire.wirebarley.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Every option has a default so the generator
+ * can be started without arguments against {@code ./gradlew bootRun}.
+ */
+public record LoadTestConfig(
+        URI baseUrl,
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int accounts,
+        double zipfExponent,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        boolean setupAccounts,
+        long accountNumberBase
+) {
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must look like --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestConfig(
+                URI.create(options.getOrDefault("baseUrl", "http://localhost:8080")),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Integer.parseInt(options.getOrDefault("accounts", "1000")),
+                Double.parseDouble(options.getOrDefault("zipf", "0.99")),
+                parseMix(options.getOrDefault("mix", "deposit=40,withdraw=20,transfer=30,history=10")),
+                Integer.parseInt(options.getOrDefault("maxInFlight", "10000")),
+                Boolean.parseBoolean(options.getOrDefault("setup", "true")),
+                Long.parseLong(options.getOrDefault("accountNumberBase", "9000000000"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix must contain at least one positive weight");
+        }
+        return mix;
+    }
+
+    public String accountNumber(int index) {
+        return String.valueOf(accountNumberBase + index);
+    }
+}
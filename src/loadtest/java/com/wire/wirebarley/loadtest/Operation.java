@@ -0,0 +1,8 @@
+package com.wire.wirebarley.loadtest;
+
+public enum Operation {
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER,
+    HISTORY
+}
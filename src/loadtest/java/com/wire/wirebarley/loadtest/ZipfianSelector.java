@@ -0,0 +1,43 @@
+package com.wire.wirebarley.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks an index in {@code [0, n)} with probability proportional to {@code 1 / (rank + 1)^exponent}.
+ * Index 0 is the hottest account. An exponent of 0 gives a uniform distribution.
+ */
+public class ZipfianSelector {
+
+    private final double[] cumulative;
+
+    public ZipfianSelector(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulative, u);
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int nextOtherThan(int excluded) {
+        if (cumulative.length < 2) {
+            throw new IllegalStateException("At least two accounts are required for transfers");
+        }
+        int index = next();
+        while (index == excluded) {
+            index = next();
+        }
+        return index;
+    }
+}
@@ -0,0 +1,147 @@
+package com.wire.wirebarley.archive;
+
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.ledger.LedgerSnapshotJob;
+import com.wire.wirebarley.repository.ArchivedTransactionRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.service.TransactionHistoryReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves ledger rows older than {@code max-age} from {@code transactions} to {@code transactions_archive} in the
+ * background, oldest first. Each chunk is copied and deleted in one short transaction inside the database
+ * bulkhead, and the job pauses between chunks so it never holds locks or connections for long.
+ *
+ * <p>In append-only ledger mode only rows already folded into the balance snapshots are moved, since balances
+ * are computed from the rows after the snapshot.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.archive", name = "enabled", havingValue = "true")
+public class TransactionArchiveJob {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionHistoryReader transactionHistoryReader;
+    private final ObjectProvider<LedgerSnapshotJob> ledgerSnapshotJob;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "transaction-archive"));
+    private final ReentrantLock running = new ReentrantLock();
+
+    public TransactionArchiveJob(TransactionRepository transactionRepository,
+                                 ArchivedTransactionRepository archivedTransactionRepository,
+                                 TransactionHistoryReader transactionHistoryReader,
+                                 ObjectProvider<LedgerSnapshotJob> ledgerSnapshotJob,
+                                 DatabaseBulkhead databaseBulkhead,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${wirebarley.archive.max-age:90d}") Duration maxAge,
+                                 @Value("${wirebarley.archive.chunk-size:1000}") int chunkSize,
+                                 @Value("${wirebarley.archive.chunk-pause:100ms}") Duration chunkPause,
+                                 @Value("${wirebarley.archive.interval:10m}") Duration interval) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.transactionHistoryReader = transactionHistoryReader;
+        this.ledgerSnapshotJob = ledgerSnapshotJob;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.error("Transaction archival failed", e);
+        }
+    }
+
+    /**
+     * Archives every row older than the configured age and returns the number of rows moved.
+     */
+    public int archive() {
+        running.lock();
+        try {
+            return archiveLocked();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private int archiveLocked() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        LedgerSnapshotJob snapshotJob = ledgerSnapshotJob.getIfAvailable();
+        long maxId = snapshotJob == null ? Long.MAX_VALUE : snapshotJob.foldedUpTo();
+
+        // Readers must start looking in the archive before the first row lands there
+        transactionHistoryReader.archiving(cutoff);
+
+        int moved = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> ids = transactionRepository.findArchivableIds(cutoff, maxId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            databaseBulkhead.execute(() -> transactionTemplate.execute(status -> {
+                archivedTransactionRepository.copyFromHot(ids);
+                return transactionRepository.deleteByIdIn(ids);
+            }));
+            moved += ids.size();
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        if (moved > 0) {
+            log.info("Transactions archived: rows={}, cutoff={}", moved, cutoff);
+        }
+        return moved;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.wire.wirebarley.async;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+/**
+ * Posts transfer results to {@code Callback-Url}s. Host names are resolved through {@link CallbackUrlPolicy} when
+ * the connection is opened, so the request goes to exactly the addresses that were checked; there is no second
+ * lookup a rebinding DNS server could answer differently. Redirects are never followed, since a public URL could
+ * otherwise send the request on to an internal one.
+ */
+@Component
+public class CallbackClient {
+
+    private final CloseableHttpClient httpClient;
+    private final RestClient restClient;
+
+    public CallbackClient(RestClient.Builder restClientBuilder,
+                          CallbackUrlPolicy callbackUrlPolicy,
+                          @Value("${wirebarley.async-transfer.callback-timeout:5s}") Duration timeout) {
+        Timeout limit = Timeout.of(timeout);
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDnsResolver(new PolicyDnsResolver(callbackUrlPolicy))
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(limit)
+                                .setSocketTimeout(limit)
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom().setResponseTimeout(limit).build())
+                .disableRedirectHandling()
+                .disableAutomaticRetries()
+                .build();
+        this.restClient = restClientBuilder
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    /**
+     * @throws BusinessException {@link ErrorCode#INVALID_CALLBACK_URL} if the host is refused when connecting
+     * @throws RestClientException if the callback could not be delivered
+     */
+    public void send(String callbackUrl, Object body) {
+        try {
+            restClient.post()
+                    .uri(callbackUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::is3xxRedirection, (request, response) -> {
+                        throw new RestClientException("Redirect not followed: " + response.getStatusCode());
+                    })
+                    .toBodilessEntity();
+        } catch (ResourceAccessException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof RefusedHostException) {
+                    throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+                }
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        httpClient.close();
+    }
+
+    private record PolicyDnsResolver(CallbackUrlPolicy callbackUrlPolicy) implements DnsResolver {
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            try {
+                return callbackUrlPolicy.resolve(host);
+            } catch (BusinessException e) {
+                throw new RefusedHostException(host);
+            }
+        }
+
+        @Override
+        public String resolveCanonicalHostname(String host) {
+            return host;
+        }
+    }
+
+    private static final class RefusedHostException extends UnknownHostException {
+
+        RefusedHostException(String host) {
+            super("Callback host refused: " + host);
+        }
+    }
+}
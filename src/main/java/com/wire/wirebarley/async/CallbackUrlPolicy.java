@@ -0,0 +1,109 @@
+package com.wire.wirebarley.async;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which {@code Callback-Url}s the server may POST transfer results to, so a client cannot make it call
+ * internal services (server-side request forgery).
+ *
+ * <p>With {@code callback-allowed-hosts} configured, only those hosts are accepted. Without it, the host is
+ * resolved and rejected if any of its addresses is loopback, link-local (cloud metadata endpoints), site-local,
+ * carrier-grade NAT, unique-local, wildcard or multicast. {@link CallbackClient} resolves through
+ * {@link #resolve(String)} when it connects, so the addresses checked are the ones it connects to, even if DNS
+ * answers differently than at submission.
+ */
+@Component
+public class CallbackUrlPolicy {
+
+    private static final int MAX_LENGTH = 500;
+
+    private final Set<String> allowedHosts;
+    private final AddressLookup addressLookup;
+
+    @Autowired
+    public CallbackUrlPolicy(@Value("${wirebarley.async-transfer.callback-allowed-hosts:}") List<String> allowedHosts) {
+        this(allowedHosts, InetAddress::getAllByName);
+    }
+
+    CallbackUrlPolicy(List<String> allowedHosts, AddressLookup addressLookup) {
+        this.addressLookup = addressLookup;
+        this.allowedHosts = allowedHosts.stream()
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void validate(String callbackUrl) {
+        URI uri;
+        try {
+            uri = URI.create(callbackUrl);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+        }
+        if (callbackUrl.length() > MAX_LENGTH || uri.getHost() == null || uri.getUserInfo() != null
+                || !("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme()))) {
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (allowedHosts.isEmpty()) {
+            resolve(host);
+        } else if (!allowedHosts.contains(host)) {
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+        }
+    }
+
+    /**
+     * The addresses a callback to {@code host} may connect to. Allowed hosts are trusted wherever they resolve.
+     */
+    public InetAddress[] resolve(String host) {
+        String normalized = host.toLowerCase(Locale.ROOT);
+        if (!allowedHosts.isEmpty() && !allowedHosts.contains(normalized)) {
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+        }
+        InetAddress[] addresses;
+        try {
+            addresses = addressLookup.resolve(normalized);
+        } catch (UnknownHostException e) {
+            throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+        }
+        if (allowedHosts.isEmpty()) {
+            for (InetAddress address : addresses) {
+                if (!isPublic(address)) {
+                    throw new BusinessException(ErrorCode.INVALID_CALLBACK_URL);
+                }
+            }
+        }
+        return addresses;
+    }
+
+    private static boolean isPublic(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        boolean uniqueLocal = address instanceof Inet6Address && (bytes[0] & 0xfe) == 0xfc;
+        // 100.64.0.0/10, shared address space behind carrier-grade NAT
+        boolean carrierGradeNat = address instanceof Inet4Address && (bytes[0] & 0xff) == 100
+                && (bytes[1] & 0xc0) == 64;
+        return !(address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress() || uniqueLocal || carrierGradeNat);
+    }
+
+    @FunctionalInterface
+    interface AddressLookup {
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+}
@@ -0,0 +1,185 @@
+package com.wire.wirebarley.async;
+
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+import com.wire.wirebarley.dto.TransferIntentResponse;
+import com.wire.wirebarley.event.TransferSubmittedEvent;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.repository.TransferIntentRepository;
+import com.wire.wirebarley.service.AsyncTransferService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes pending transfer intents with a fixed number of worker lanes, so transfer throughput is set by the
+ * lane count rather than by how many clients submit at once.
+ *
+ * <p>A single dispatcher thread reads the oldest pending intent of each source account, in submission order, and
+ * hands each one to the lane chosen by its source account. Each lane is one thread, so transfers from the same account run one after another in
+ * submission order instead of queueing on that account's row lock. A source account has at most one intent in
+ * flight, and none while its oldest pending intent is deferred after a transient failure, so a retried transfer
+ * is never overtaken by a later one from the same account. At most {@code max-queued} intents are handed out at
+ * a time; the rest wait in the table. The dispatcher runs on a fixed delay, right after each submission commits
+ * and whenever an intent finishes.
+ *
+ * <p>Result callbacks go to client-supplied URLs, so they are sent from a separate pool after the intent is
+ * released, with connect and read timeouts ({@link CallbackClient}): a slow or hanging receiver never holds up a
+ * lane or a dispatch slot.
+ * Callbacks that find the pool's queue full are dropped, like any other failed delivery.
+ */
+@Slf4j
+@Component
+public class TransferIntentWorker {
+
+    private final TransferIntentRepository transferIntentRepository;
+    private final AsyncTransferService asyncTransferService;
+    private final CallbackClient callbackClient;
+    private final int maxQueued;
+    private final Duration pollInterval;
+    private final ExecutorService[] lanes;
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService callbackSender;
+    // Intents handed to a lane and not finished yet, so the next poll does not dispatch them again
+    private final Set<Long> dispatched = ConcurrentHashMap.newKeySet();
+
+    public TransferIntentWorker(TransferIntentRepository transferIntentRepository,
+                                AsyncTransferService asyncTransferService,
+                                CallbackClient callbackClient,
+                                @Value("${wirebarley.async-transfer.workers:4}") int workers,
+                                @Value("${wirebarley.async-transfer.max-queued:100}") int maxQueued,
+                                @Value("${wirebarley.async-transfer.poll-interval:200ms}") Duration pollInterval) {
+        this.transferIntentRepository = transferIntentRepository;
+        this.asyncTransferService = asyncTransferService;
+        this.callbackClient = callbackClient;
+        this.maxQueued = maxQueued;
+        this.pollInterval = pollInterval;
+        this.lanes = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(namedThreads("transfer-worker-" + i));
+        }
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(namedThreads("transfer-dispatcher"));
+        this.callbackSender = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued), namedThreads("transfer-callback"));
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher.scheduleWithFixedDelay(this::dispatch, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("Transfer worker started with {} lanes", lanes.length);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        dispatcher.shutdownNow();
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        callbackSender.shutdown();
+        callbackSender.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener
+    public void onTransferSubmitted(TransferSubmittedEvent event) {
+        wakeDispatcher();
+    }
+
+    void dispatch() {
+        try {
+            int capacity = maxQueued - dispatched.size();
+            if (capacity <= 0) {
+                return;
+            }
+            // One row per source: its oldest pending intent, unless that one is deferred. Heads already in flight
+            // are still pending and come back too, so read that many extra rows
+            List<TransferIntent> heads = transferIntentRepository.findDueHeadsByStatus(TransferIntentStatus.PENDING,
+                    LocalDateTime.now(), PageRequest.of(0, capacity + dispatched.size()));
+            for (TransferIntent intent : heads) {
+                if (dispatched.size() >= maxQueued) {
+                    break;
+                }
+                if (dispatched.add(intent.getId())) {
+                    laneFor(intent.getSourceAccountNumber()).execute(() -> process(intent));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Transfer dispatch failed", e);
+        }
+    }
+
+    private void process(TransferIntent intent) {
+        Optional<TransferIntentResponse> result;
+        try {
+            result = asyncTransferService.execute(intent.getId());
+        } finally {
+            dispatched.remove(intent.getId());
+            // The source's next intent can go now
+            wakeDispatcher();
+        }
+        if (intent.getCallbackUrl() != null) {
+            result.ifPresent(response -> sendCallback(intent.getCallbackUrl(), response));
+        }
+    }
+
+    private void sendCallback(String callbackUrl, TransferIntentResponse result) {
+        try {
+            callbackSender.execute(() -> notifyCallback(callbackUrl, result));
+        } catch (RejectedExecutionException e) {
+            log.warn("Transfer callback dropped, sender busy: id={}, url={}", result.transferId(), callbackUrl);
+        }
+    }
+
+    private void wakeDispatcher() {
+        try {
+            dispatcher.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; pending intents are picked up after the restart
+        }
+    }
+
+    // Best effort: the client can always poll the transfer's status
+    private void notifyCallback(String callbackUrl, TransferIntentResponse result) {
+        try {
+            // The host is checked again when connecting: it may resolve to a different address than at submission
+            callbackClient.send(callbackUrl, result);
+        } catch (BusinessException e) {
+            log.warn("Transfer callback refused: id={}, url={}", result.transferId(), callbackUrl);
+        } catch (RestClientException e) {
+            log.warn("Transfer callback failed: id={}, url={}, error={}", result.transferId(), callbackUrl,
+                    e.getMessage());
+        }
+    }
+
+    private ExecutorService laneFor(String sourceAccountNumber) {
+        return lanes[Math.floorMod(sourceAccountNumber.hashCode(), lanes.length)];
+    }
+
+    private static ThreadFactory namedThreads(String name) {
+        return runnable -> new Thread(runnable, name);
+    }
+}
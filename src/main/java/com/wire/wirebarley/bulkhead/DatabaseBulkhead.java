@@ -0,0 +1,81 @@
+package com.wire.wirebarley.bulkhead;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of requests doing database work at the same time. With virtual threads the servlet container
+ * no longer limits concurrency, so without a cap thousands of requests would queue inside the connection pool
+ * (and on hot account row locks) until they time out. Waiting here is bounded and fails fast with
+ * {@link ErrorCode#SERVER_BUSY}.
+ *
+ * <p>Re-entrant per thread: nested transactional calls made while a permit is held do not take another one,
+ * which would otherwise deadlock once all permits are in use.
+ */
+@Component
+public class DatabaseBulkhead {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    public DatabaseBulkhead(MeterRegistry meterRegistry,
+                            @Value("${wirebarley.db-bulkhead.max-concurrent:10}") int maxConcurrent,
+                            @Value("${wirebarley.db-bulkhead.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.waitTimer = Timer.builder("wirebarley.db.bulkhead.wait")
+                .description("Time spent waiting for a database work permit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("wirebarley.db.bulkhead.rejections")
+                .description("Requests rejected because no database work permit became free in time")
+                .register(meterRegistry);
+        Gauge.builder("wirebarley.db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free database work permits")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        if (holding.get()) {
+            return work.get();
+        }
+        acquire();
+        holding.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            holding.remove();
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejections.increment();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+    }
+}
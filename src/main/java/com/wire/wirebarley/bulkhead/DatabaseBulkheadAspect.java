@@ -0,0 +1,60 @@
+package com.wire.wirebarley.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Puts every {@link Transactional} method of the application behind the {@link DatabaseBulkhead}. Ordered inside
+ * the retry aspect, so the permit is released during retry backoff, and outside the transaction advice, so the
+ * permit is taken before a connection is borrowed from the pool. Methods that suspend the transaction (ledger
+ * engine mode) do no database work of their own and are not gated, and neither are read-only transactions when
+ * they are routed to the replica pool, which does not need protecting from the write path's load.
+ *
+ * <p>Only active with virtual threads or {@code wirebarley.db-bulkhead.enabled=true}: on platform threads the
+ * servlet container already bounds concurrency, and the semaphore would just add a contended hop to every call.
+ */
+@Aspect
+@Component
+@ConditionalOnExpression("${wirebarley.db-bulkhead.enabled:false} or ${spring.threads.virtual.enabled:false}")
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class DatabaseBulkheadAspect {
+
+    private final DatabaseBulkhead databaseBulkhead;
+    private final boolean replicaEnabled;
+
+    public DatabaseBulkheadAspect(DatabaseBulkhead databaseBulkhead,
+                                  @Value("${wirebarley.replica.enabled:false}") boolean replicaEnabled) {
+        this.databaseBulkhead = databaseBulkhead;
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    @Around("@annotation(transactional) && within(com.wire.wirebarley..*)")
+    public Object limit(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (transactional.propagation() == Propagation.NOT_SUPPORTED
+                || transactional.propagation() == Propagation.NEVER
+                || (replicaEnabled && transactional.readOnly())) {
+            return joinPoint.proceed();
+        }
+        return databaseBulkhead.execute(() -> proceed(joinPoint));
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
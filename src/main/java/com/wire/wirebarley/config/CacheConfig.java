@@ -0,0 +1,38 @@
+package com.wire.wirebarley.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACCOUNT_METADATA = "accountMetadata";
+
+    /**
+     * Bounded Caffeine caches with statistics (exported as cache.gets/puts/evictions through actuator).
+     * The manager is transaction aware: puts and evictions made inside a transaction are applied only after
+     * it commits, so a rolled back insert is never cached. Account metadata defers its puts itself (see
+     * {@code AccountLookupService}) so that a lookup committing after a delete cannot cache the deleted account.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${wirebarley.cache.account-metadata.maximum-size:100000}") long maximumSize,
+            @Value("${wirebarley.cache.account-metadata.expire-after-write:10m}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ACCOUNT_METADATA);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
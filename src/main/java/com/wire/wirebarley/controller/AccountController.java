@@ -2,19 +2,35 @@ package com.wire.wirebarley.controller;
 
 import com.wire.wirebarley.dto.AccountCreateRequest;
 import com.wire.wirebarley.dto.AccountResponse;
+import com.wire.wirebarley.dto.AccountSummaryResponse;
+import com.wire.wirebarley.dto.ImportFormat;
+import com.wire.wirebarley.dto.SummaryPeriod;
+import com.wire.wirebarley.service.AccountImportService;
 import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.AccountSummaryService;
+import com.wire.wirebarley.stream.BalanceStreamHub;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/accounts")
 @RequiredArgsConstructor
 public class AccountController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final AccountService accountService;
+    private final AccountSummaryService accountSummaryService;
+    private final BalanceStreamHub balanceStreamHub;
+    private final AccountImportService accountImportService;
 
     @PostMapping
     public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody AccountCreateRequest request) {
@@ -22,6 +38,17 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Body is read and answered line by line (one NDJSON result per input line) while the import runs
+    @PostMapping("/bulk")
+    public ResponseEntity<StreamingResponseBody> importAccounts(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) {
+        StreamingResponseBody response = accountImportService.importAccounts(body, ImportFormat.from(format));
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(response);
+    }
+
     @DeleteMapping("/{accountNumber}")
     public ResponseEntity<Void> deleteAccount(@PathVariable String accountNumber) {
         accountService.deleteAccount(accountNumber);
@@ -33,4 +60,21 @@ public class AccountController {
         AccountResponse response = accountService.getAccount(accountNumber);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // Current balance first, then every committed change of the account
+    @GetMapping(value = "/{accountNumber}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBalance(@PathVariable String accountNumber) {
+        return balanceStreamHub.subscribe(accountNumber);
+    }
+
+    @GetMapping("/{accountNumber}/summary")
+    public ResponseEntity<AccountSummaryResponse> getSummary(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "daily") String period) {
+        AccountSummaryResponse response = accountSummaryService.getSummary(
+                accountNumber, from, to, SummaryPeriod.from(period));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,42 +1,138 @@
 package com.wire.wirebarley.controller;
 
+import com.wire.wirebarley.domain.IdempotentOperation;
 import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.service.AsyncTransferService;
+import com.wire.wirebarley.service.IdempotencyService;
+import com.wire.wirebarley.service.TransactionExportService;
 import com.wire.wirebarley.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.net.URI;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 public class TransactionController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String CALLBACK_URL_HEADER = "Callback-Url";
+
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final IdempotencyService idempotencyService;
+    private final AsyncTransferService asyncTransferService;
 
     @PostMapping("/deposit")
-    public ResponseEntity<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request) {
-        TransactionResponse response = transactionService.deposit(request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<TransactionResponse> deposit(
+            @Valid @RequestBody DepositRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return respond(idempotencyKey, IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                () -> transactionService.deposit(request));
     }
 
     @PostMapping("/withdraw")
-    public ResponseEntity<TransactionResponse> withdraw(@Valid @RequestBody WithdrawalRequest request) {
-        TransactionResponse response = transactionService.withdraw(request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<TransactionResponse> withdraw(
+            @Valid @RequestBody WithdrawalRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return respond(idempotencyKey, IdempotentOperation.WITHDRAWAL, request, TransactionResponse.class,
+                () -> transactionService.withdraw(request));
     }
 
     @PostMapping("/transfer")
-    public ResponseEntity<TransferResponse> transfer(@Valid @RequestBody TransferRequest request) {
-        TransferResponse response = transactionService.transfer(request);
+    public ResponseEntity<TransferResponse> transfer(
+            @Valid @RequestBody TransferRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return respond(idempotencyKey, IdempotentOperation.TRANSFER, request, TransferResponse.class,
+                () -> transactionService.transfer(request));
+    }
+
+    @PostMapping(value = "/transfer", params = "async=true")
+    public ResponseEntity<TransferIntentResponse> submitTransfer(
+            @Valid @RequestBody TransferRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = CALLBACK_URL_HEADER, required = false) String callbackUrl) {
+        ResponseEntity<TransferIntentResponse> response = respond(HttpStatus.ACCEPTED, idempotencyKey,
+                IdempotentOperation.ASYNC_TRANSFER, request, TransferIntentResponse.class,
+                () -> asyncTransferService.submit(request, callbackUrl));
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .location(URI.create("/api/transactions/transfers/" + response.getBody().transferId()))
+                .body(response.getBody());
+    }
+
+    @GetMapping("/transfers/{transferId}")
+    public ResponseEntity<TransferIntentResponse> getTransfer(@PathVariable Long transferId) {
+        TransferIntentResponse response = asyncTransferService.getTransfer(transferId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/transfers/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = transactionService.transferBatch(request);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/history/{accountNumber}")
-    public ResponseEntity<List<TransactionResponse>> getTransactionHistory(@PathVariable String accountNumber) {
-        List<TransactionResponse> response = transactionService.getTransactionHistory(accountNumber);
+    public ResponseEntity<TransactionHistoryResponse> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        TransactionHistoryResponse response = transactionService.getTransactionHistory(accountNumber, after, limit);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/statement/{accountNumber}")
+    public ResponseEntity<StatementResponse> getStatement(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        StatementResponse response = transactionService.getStatement(accountNumber, from, to, type, after, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/history/{accountNumber}/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = transactionExportService.export(accountNumber, exportFormat);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(accountNumber + "." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
+    private <T> ResponseEntity<T> respond(String idempotencyKey, IdempotentOperation operation, Object request,
+                                          Class<T> responseType, Supplier<T> action) {
+        return respond(HttpStatus.OK, idempotencyKey, operation, request, responseType, action);
+    }
+
+    private <T> ResponseEntity<T> respond(HttpStatus status, String idempotencyKey, IdempotentOperation operation,
+                                          Object request, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(status).body(action.get());
+        }
+        IdempotentResult<T> result = idempotencyService.execute(idempotencyKey, operation, request, responseType, action);
+        return ResponseEntity.status(status)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
+    }
+}
@@ -0,0 +1,38 @@
+package com.wire.wirebarley.controller;
+
+import com.wire.wirebarley.outbox.EventLog;
+import com.wire.wirebarley.service.TransactionEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class TransactionEventController {
+
+    static final String NEXT_OFFSET_HEADER = "Next-Offset";
+    static final String LOG_EPOCH_HEADER = "Log-Epoch";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final TransactionEventService transactionEventService;
+
+    // Body is the log's NDJSON lines copied as stored; consumers continue from Next-Offset, passing Log-Epoch back
+    @GetMapping
+    public ResponseEntity<byte[]> readEvents(
+            @RequestParam(required = false) String epoch,
+            @RequestParam(defaultValue = "0") long offset,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") long waitMillis) {
+        EventLog.Slice slice = transactionEventService.read(epoch, offset, limit, waitMillis);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(LOG_EPOCH_HEADER, transactionEventService.epoch())
+                .header(NEXT_OFFSET_HEADER, String.valueOf(slice.nextOffset()))
+                .body(slice.records());
+    }
+}
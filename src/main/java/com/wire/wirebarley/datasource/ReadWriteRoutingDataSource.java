@@ -0,0 +1,40 @@
+package com.wire.wirebarley.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else to the primary. It must
+ * sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the read-only flag is
+ * only set after the transaction manager has asked for a connection, so the physical connection has to be
+ * fetched lazily, at the first statement.
+ *
+ * <p>A thread can be pinned to the primary for read-your-writes (see {@link ReadYourWritesFilter}).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPinnedToPrimary()
+                ? Route.REPLICA : Route.PRIMARY;
+    }
+}
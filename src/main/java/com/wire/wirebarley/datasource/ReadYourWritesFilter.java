@@ -0,0 +1,80 @@
+package com.wire.wirebarley.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for clients of the replica: a mutating request marks the client with a short-lived cookie,
+ * and reads carrying an unexpired mark are served from the primary, so a client never reads a replica that has
+ * not caught up with its own write yet. Other clients keep reading from the replica.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "wb-primary-until";
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesFilter(@Value("${wirebarley.replica.sticky-window:2s}") Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isSafe(request.getMethod())) {
+            // Set before the handler runs: the response may be committed by the time it returns
+            long primaryUntil = System.currentTimeMillis() + stickyWindow.toMillis();
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(primaryUntil));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (stickyWindow.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!recentlyWrote(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+        }
+    }
+
+    private boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private boolean recentlyWrote(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
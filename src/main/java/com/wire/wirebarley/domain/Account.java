@@ -5,7 +5,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -15,26 +14,40 @@ import java.time.LocalDateTime;
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id")
+    @SequenceGenerator(name = "account_id", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 20)
     private String accountNumber;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
 
     @Version
     private Long version; // For optimistic locking to handle concurrency
 
+    @Column(nullable = false)
+    private Long snapshotTransactionId; // Append-only ledger: last transaction id already folded into balance
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
 
     public Account(String accountNumber) {
+        this(accountNumber, 0L);
+    }
+
+    /**
+     * Append-only ledger: entries up to {@code snapshotTransactionId} are never part of this account's balance,
+     * even if an earlier account with the same number left entries there.
+     */
+    public Account(String accountNumber, long snapshotTransactionId) {
         this.accountNumber = accountNumber;
-        this.balance = BigDecimal.ZERO;
+        this.balance = Money.ZERO;
+        this.snapshotTransactionId = snapshotTransactionId;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -44,21 +57,29 @@ public class Account {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void deposit(BigDecimal amount) {
+    public void deposit(Money amount) {
         validateAmount(amount);
-        this.balance = this.balance.add(amount);
+        this.balance = this.balance.plus(amount);
     }
 
-    public void withdraw(BigDecimal amount) {
+    public void withdraw(Money amount) {
         validateAmount(amount);
-        if (this.balance.compareTo(amount) < 0) {
+        if (this.balance.isLessThan(amount)) {
             throw new IllegalArgumentException("Insufficient balance");
         }
-        this.balance = this.balance.subtract(amount);
+        this.balance = this.balance.minus(amount);
+    }
+
+    /**
+     * Append-only ledger: folds the entries up to {@code upToTransactionId} into the balance snapshot.
+     */
+    public void applySnapshot(Money balanceChange, long upToTransactionId) {
+        this.balance = this.balance.plus(balanceChange);
+        this.snapshotTransactionId = upToTransactionId;
     }
 
-    private void validateAmount(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    private void validateAmount(Money amount) {
+        if (amount == null || amount.signum() <= 0) {
             throw new IllegalArgumentException("Amount must be greater than zero");
         }
     }
@@ -0,0 +1,53 @@
+package com.wire.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A {@link Transaction} moved out of the hot table by the archive job. Same columns and id as the original row;
+ * rows are only ever inserted by the job (INSERT ... SELECT) and read by history queries.
+ */
+@Entity
+@Immutable
+@Table(name = "transactions_archive", indexes = {
+    @Index(name = "idx_archive_account_created_id", columnList = "accountNumber, createdAt, id"),
+    @Index(name = "idx_archive_created_at", columnList = "createdAt"),
+    @Index(name = "idx_archive_account_type_created_id", columnList = "accountNumber, type, createdAt, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedTransaction {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(length = 20)
+    private String targetAccountNumber;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal fee;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private String description;
+}
@@ -5,7 +5,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
@@ -16,7 +15,8 @@ import java.time.LocalDate;
 public class DailyLimit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_limit_id")
+    @SequenceGenerator(name = "daily_limit_id", sequenceName = "daily_limits_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -25,24 +25,26 @@ public class DailyLimit {
     @Column(nullable = false)
     private LocalDate transactionDate;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal withdrawalAmount;
+    private Money withdrawalAmount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal transferAmount;
+    private Money transferAmount;
 
     public DailyLimit(String accountNumber, LocalDate transactionDate) {
         this.accountNumber = accountNumber;
         this.transactionDate = transactionDate;
-        this.withdrawalAmount = BigDecimal.ZERO;
-        this.transferAmount = BigDecimal.ZERO;
+        this.withdrawalAmount = Money.ZERO;
+        this.transferAmount = Money.ZERO;
     }
 
-    public void addWithdrawalAmount(BigDecimal amount) {
-        this.withdrawalAmount = this.withdrawalAmount.add(amount);
+    public void addWithdrawalAmount(Money amount) {
+        this.withdrawalAmount = this.withdrawalAmount.plus(amount);
     }
 
-    public void addTransferAmount(BigDecimal amount) {
-        this.transferAmount = this.transferAmount.add(amount);
+    public void addTransferAmount(Money amount) {
+        this.transferAmount = this.transferAmount.plus(amount);
     }
 }
\ No newline at end of file
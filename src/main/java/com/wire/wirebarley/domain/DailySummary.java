@@ -0,0 +1,45 @@
+package com.wire.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per-account, per-day, per-type totals of ledger entries. Rows are only ever incremented by upserts in
+ * {@link com.wire.wirebarley.repository.DailySummaryRepository}; monthly and yearly figures are derived from them.
+ */
+@Entity
+@Table(name = "daily_summaries",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"accountNumber", "summaryDate", "type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_summary_id")
+    @SequenceGenerator(name = "daily_summary_id", sequenceName = "daily_summaries_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String accountNumber;
+
+    @Column(nullable = false)
+    private LocalDate summaryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private long entryCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal fee;
+}
@@ -0,0 +1,46 @@
+package com.wire.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"operation", "idempotencyKey"}),
+       indexes = @Index(name = "idx_idempotency_created_at", columnList = "createdAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotentOperation operation;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // SHA-256 of the request body, to reject a key reused for a different request
+
+    @Column(nullable = false, length = 4000)
+    private String responseBody; // JSON of the original response
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord(IdempotentOperation operation, String idempotencyKey, String requestHash,
+                             String responseBody) {
+        this.operation = operation;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.responseBody = responseBody;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.wire.wirebarley.domain;
+
+public enum IdempotentOperation {
+    DEPOSIT,        // 입금
+    WITHDRAWAL,     // 출금
+    TRANSFER,       // 이체
+    ASYNC_TRANSFER  // 비동기 이체 접수
+}
@@ -0,0 +1,106 @@
+package com.wire.wirebarley.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money held as a {@code long} of minor units (1/100), the scale of every amount column.
+ * Arithmetic and comparisons are plain long operations, so the hot path allocates nothing beyond the
+ * {@code Money} instances themselves; {@link BigDecimal} is only used at the edges (requests, responses,
+ * native queries). Results that do not fit in a long throw {@link ArithmeticException} instead of wrapping.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_MAJOR = 100;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofMajor(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, MINOR_PER_MAJOR));
+    }
+
+    /**
+     * Exact conversion; throws {@link ArithmeticException} for more than two decimal places or out of range.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        // longValueExact rejects a remaining fraction as well as overflow
+        return ofMinor(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits));
+    }
+
+    /**
+     * {@code percent}% of this amount rounded to minor units, half away from zero ({@link RoundingMode#HALF_UP}).
+     */
+    public Money percentHalfUp(int percent) {
+        long scaled = Math.multiplyExact(minorUnits, percent);
+        long rounded = (Math.abs(scaled) + 50) / 100;
+        return ofMinor(scaled < 0 ? -rounded : rounded);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
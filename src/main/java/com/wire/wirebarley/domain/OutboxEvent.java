@@ -0,0 +1,55 @@
+package com.wire.wirebarley.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A copy of a newly written {@link Transaction}, inserted in the same database transaction (INSERT ... SELECT in
+ * {@link com.wire.wirebarley.repository.OutboxEventRepository}) and deleted once the relay has appended it to the
+ * event log.
+ */
+@Entity
+@Immutable
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id")
+    @SequenceGenerator(name = "outbox_event_id", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long transactionId;
+
+    @Column(nullable = false, length = 20)
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(length = 20)
+    private String targetAccountNumber;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal fee;
+
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
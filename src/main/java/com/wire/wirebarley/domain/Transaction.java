@@ -7,18 +7,22 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_account_number", columnList = "accountNumber"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_account_created_id", columnList = "accountNumber, createdAt, id"),
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_account_id", columnList = "accountNumber, id"),
+    @Index(name = "idx_account_type_created_id", columnList = "accountNumber, type, createdAt, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id")
+    @SequenceGenerator(name = "transaction_id", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -31,8 +35,8 @@ public class Transaction {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal amount;
 
-    @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balanceAfter;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal balanceAfter; // Null for credits in append-only ledger mode (not known without a lock)
 
     @Column(length = 20)
     private String targetAccountNumber; // For TRANSFER type
@@ -54,7 +58,8 @@ public class Transaction {
         this.targetAccountNumber = targetAccountNumber;
         this.fee = fee;
         this.description = description;
-        this.createdAt = LocalDateTime.now();
+        // Truncated to the column precision so the in-memory value matches the stored one (used by history cursors)
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public static Transaction createDeposit(String accountNumber, BigDecimal amount, BigDecimal balanceAfter) {
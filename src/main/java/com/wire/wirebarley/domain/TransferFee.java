@@ -0,0 +1,14 @@
+package com.wire.wirebarley.domain;
+
+public final class TransferFee {
+
+    public static final int RATE_PERCENT = 1;
+
+    private TransferFee() {
+    }
+
+    // 이체 금액의 1%, 소수점 둘째자리 반올림 (HALF_UP)
+    public static Money calculate(Money amount) {
+        return amount.percentHalfUp(RATE_PERCENT);
+    }
+}
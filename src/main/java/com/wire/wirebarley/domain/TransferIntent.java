@@ -0,0 +1,105 @@
+package com.wire.wirebarley.domain;
+
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A transfer accepted for asynchronous execution. It stays {@link TransferIntentStatus#PENDING} until a worker
+ * executes it, and is completed in the same database transaction as the transfer itself. A transient failure
+ * defers it to {@link #getNextAttemptAt()}; after too many deferrals it fails.
+ */
+@Entity
+@Table(name = "transfer_intents", indexes = {
+    @Index(name = "idx_transfer_intent_status_id", columnList = "status, id"),
+    @Index(name = "idx_transfer_intent_status_source_id", columnList = "status, sourceAccountNumber, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransferIntent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String sourceAccountNumber;
+
+    @Column(nullable = false, length = 20)
+    private String targetAccountNumber;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransferIntentStatus status;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal fee;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal sourceBalanceAfter;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal targetBalanceAfter;
+
+    @Column(length = 10)
+    private String errorCode;
+
+    @Column(length = 500)
+    private String callbackUrl;
+
+    @Column(nullable = false)
+    private int attempts; // Executions deferred by a transient failure
+
+    private LocalDateTime nextAttemptAt; // Not executed again before this time after a deferral
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    public TransferIntent(TransferRequest request, String callbackUrl) {
+        this.sourceAccountNumber = request.sourceAccountNumber();
+        this.targetAccountNumber = request.targetAccountNumber();
+        this.amount = request.amount();
+        this.callbackUrl = callbackUrl;
+        this.status = TransferIntentStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public TransferRequest toRequest() {
+        return new TransferRequest(sourceAccountNumber, targetAccountNumber, amount);
+    }
+
+    public void complete(TransferResponse response) {
+        this.status = TransferIntentStatus.COMPLETED;
+        this.fee = response.fee();
+        this.sourceBalanceAfter = response.sourceBalanceAfter();
+        this.targetBalanceAfter = response.targetBalanceAfter();
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isDue(LocalDateTime now) {
+        return nextAttemptAt == null || !nextAttemptAt.isAfter(now);
+    }
+
+    public void defer(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(ErrorCode errorCode) {
+        this.status = TransferIntentStatus.FAILED;
+        this.errorCode = errorCode.getCode();
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.wire.wirebarley.domain;
+
+public enum TransferIntentStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
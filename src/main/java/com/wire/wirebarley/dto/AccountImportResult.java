@@ -0,0 +1,19 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.ErrorCode;
+
+public record AccountImportResult(
+        long line,
+        String accountNumber,
+        boolean success,
+        String errorCode,
+        String errorMessage
+) {
+    public static AccountImportResult success(long line, String accountNumber) {
+        return new AccountImportResult(line, accountNumber, true, null, null);
+    }
+
+    public static AccountImportResult failure(long line, String accountNumber, ErrorCode errorCode) {
+        return new AccountImportResult(line, accountNumber, false, errorCode.getCode(), errorCode.getMessage());
+    }
+}
@@ -0,0 +1,22 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.Account;
+
+import java.time.LocalDateTime;
+
+/**
+ * The immutable part of an account. Balance and version change on every transaction and are never cached.
+ */
+public record AccountMetadata(
+        Long id,
+        String accountNumber,
+        LocalDateTime createdAt
+) {
+    public AccountMetadata(Account account) {
+        this(
+                account.getId(),
+                account.getAccountNumber(),
+                account.getCreatedAt()
+        );
+    }
+}
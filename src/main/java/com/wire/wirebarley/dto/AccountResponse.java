@@ -12,10 +12,14 @@ public record AccountResponse(
         LocalDateTime createdAt
 ) {
     public AccountResponse(Account account) {
+        this(account, account.getBalance().toBigDecimal());
+    }
+
+    public AccountResponse(Account account, BigDecimal balance) {
         this(
                 account.getId(),
                 account.getAccountNumber(),
-                account.getBalance(),
+                balance,
                 account.getCreatedAt()
         );
     }
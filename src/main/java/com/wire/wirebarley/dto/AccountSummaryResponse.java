@@ -0,0 +1,13 @@
+package com.wire.wirebarley.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AccountSummaryResponse(
+        String accountNumber,
+        SummaryPeriod period,
+        LocalDate from,
+        LocalDate to,
+        List<SummaryBucketResponse> buckets
+) {
+}
@@ -0,0 +1,37 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Payload of a {@code balance} event on the account stream. The first event of a stream is the current balance
+ * with no transaction fields; every later one is a committed ledger entry. {@code balance} is {@code null} for
+ * credits in append-only ledger mode, where clients apply {@code amount} instead.
+ */
+public record BalanceUpdateResponse(
+        String accountNumber,
+        BigDecimal balance,
+        Long transactionId,
+        TransactionType type,
+        BigDecimal amount,
+        BigDecimal fee,
+        LocalDateTime createdAt
+) {
+    public BalanceUpdateResponse(AccountResponse account) {
+        this(account.accountNumber(), account.balance(), null, null, null, null, null);
+    }
+
+    public BalanceUpdateResponse(TransactionResponse transaction) {
+        this(
+                transaction.accountNumber(),
+                transaction.balanceAfter(),
+                transaction.id(),
+                transaction.type(),
+                transaction.amount(),
+                transaction.fee(),
+                transaction.createdAt()
+        );
+    }
+}
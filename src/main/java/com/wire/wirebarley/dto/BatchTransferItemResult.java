@@ -0,0 +1,19 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.ErrorCode;
+
+public record BatchTransferItemResult(
+        int index,
+        boolean success,
+        TransferResponse transfer,
+        String errorCode,
+        String errorMessage
+) {
+    public static BatchTransferItemResult success(int index, TransferResponse transfer) {
+        return new BatchTransferItemResult(index, true, transfer, null, null);
+    }
+
+    public static BatchTransferItemResult failure(int index, ErrorCode errorCode) {
+        return new BatchTransferItemResult(index, false, null, errorCode.getCode(), errorCode.getMessage());
+    }
+}
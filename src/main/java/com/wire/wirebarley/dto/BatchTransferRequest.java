@@ -0,0 +1,14 @@
+package com.wire.wirebarley.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchTransferRequest(
+        @NotEmpty(message = "Transfers are required")
+        @Size(max = 10000, message = "A batch can contain at most 10,000 transfers")
+        List<@Valid TransferRequest> transfers
+) {
+}
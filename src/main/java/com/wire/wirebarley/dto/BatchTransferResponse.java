@@ -0,0 +1,19 @@
+package com.wire.wirebarley.dto;
+
+import java.util.List;
+
+public record BatchTransferResponse(
+        int totalCount,
+        int successCount,
+        int failureCount,
+        List<BatchTransferItemResult> results
+) {
+    public BatchTransferResponse(List<BatchTransferItemResult> results) {
+        this(
+                results.size(),
+                (int) results.stream().filter(BatchTransferItemResult::success).count(),
+                (int) results.stream().filter(result -> !result.success()).count(),
+                results
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_EXPORT_FORMAT);
+    }
+}
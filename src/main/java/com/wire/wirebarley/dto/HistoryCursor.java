@@ -0,0 +1,44 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in an account's history: the (createdAt, id) of the last row a client has seen.
+ */
+public record HistoryCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static HistoryCursor of(TransactionResponse transaction) {
+        return new HistoryCursor(transaction.createdAt(), transaction.id());
+    }
+
+    public static HistoryCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new HistoryCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,7 @@
+package com.wire.wirebarley.dto;
+
+public record IdempotentResult<T>(
+        T body,
+        boolean replayed
+) {
+}
@@ -0,0 +1,19 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+
+public enum ImportFormat {
+
+    CSV,
+    NDJSON;
+
+    public static ImportFormat from(String value) {
+        for (ImportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+}
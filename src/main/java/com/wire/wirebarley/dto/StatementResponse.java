@@ -0,0 +1,17 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record StatementResponse(
+        String accountNumber,
+        LocalDateTime from,
+        LocalDateTime to,
+        TransactionType type,
+        List<TransactionResponse> transactions,
+        String nextCursor,
+        boolean hasNext
+) {
+}
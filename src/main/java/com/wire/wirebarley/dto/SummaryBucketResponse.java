@@ -0,0 +1,15 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SummaryBucketResponse(
+        LocalDate periodStart,
+        TransactionType type,
+        long count,
+        BigDecimal amount,
+        BigDecimal fee
+) {
+}
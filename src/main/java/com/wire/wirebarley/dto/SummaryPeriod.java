@@ -0,0 +1,30 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+
+import java.time.LocalDate;
+
+public enum SummaryPeriod {
+
+    DAILY,
+    MONTHLY,
+    YEARLY;
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case MONTHLY -> date.withDayOfMonth(1);
+            case YEARLY -> date.withDayOfYear(1);
+        };
+    }
+
+    public static SummaryPeriod from(String value) {
+        for (SummaryPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(value)) {
+                return period;
+            }
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_SUMMARY_PERIOD);
+    }
+}
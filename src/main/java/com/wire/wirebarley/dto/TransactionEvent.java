@@ -0,0 +1,39 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.OutboxEvent;
+import com.wire.wirebarley.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One line of the event log. {@code offset} is the position in the log that consumers resume from;
+ * {@code transactionId} identifies the ledger row (delivery is at least once, so it is also the dedup key).
+ */
+public record TransactionEvent(
+        long offset,
+        Long transactionId,
+        String accountNumber,
+        TransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String targetAccountNumber,
+        BigDecimal fee,
+        String description,
+        LocalDateTime createdAt
+) {
+    public TransactionEvent(long offset, OutboxEvent event) {
+        this(
+                offset,
+                event.getTransactionId(),
+                event.getAccountNumber(),
+                event.getType(),
+                event.getAmount(),
+                event.getBalanceAfter(),
+                event.getTargetAccountNumber(),
+                event.getFee(),
+                event.getDescription(),
+                event.getCreatedAt()
+        );
+    }
+}
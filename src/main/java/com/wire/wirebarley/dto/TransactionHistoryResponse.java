@@ -0,0 +1,10 @@
+package com.wire.wirebarley.dto;
+
+import java.util.List;
+
+public record TransactionHistoryResponse(
+        List<TransactionResponse> transactions,
+        String nextCursor,
+        boolean hasNext
+) {
+}
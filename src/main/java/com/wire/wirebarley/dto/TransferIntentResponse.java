@@ -0,0 +1,37 @@
+package com.wire.wirebarley.dto;
+
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TransferIntentResponse(
+        Long transferId,
+        TransferIntentStatus status,
+        String sourceAccountNumber,
+        String targetAccountNumber,
+        BigDecimal amount,
+        BigDecimal fee,
+        BigDecimal sourceBalanceAfter,
+        BigDecimal targetBalanceAfter,
+        String errorCode,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+    public TransferIntentResponse(TransferIntent intent) {
+        this(
+                intent.getId(),
+                intent.getStatus(),
+                intent.getSourceAccountNumber(),
+                intent.getTargetAccountNumber(),
+                intent.getAmount(),
+                intent.getFee(),
+                intent.getSourceBalanceAfter(),
+                intent.getTargetBalanceAfter(),
+                intent.getErrorCode(),
+                intent.getCreatedAt(),
+                intent.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.domain.Money;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * In-memory balance and today's limit usage of one account. Only ever touched by the thread of the
+ * partition that owns the account, so it needs no synchronization.
+ */
+@Getter
+class AccountState {
+
+    private final String accountNumber;
+    private Money balance;
+    private LocalDate limitDate;
+    private Money withdrawalAmount;
+    private Money transferAmount;
+
+    AccountState(String accountNumber, Money balance, LocalDate limitDate,
+                 Money withdrawalAmount, Money transferAmount) {
+        this.accountNumber = accountNumber;
+        this.balance = balance;
+        this.limitDate = limitDate;
+        this.withdrawalAmount = withdrawalAmount;
+        this.transferAmount = transferAmount;
+    }
+
+    void rollTo(LocalDate today) {
+        if (!today.equals(limitDate)) {
+            limitDate = today;
+            withdrawalAmount = Money.ZERO;
+            transferAmount = Money.ZERO;
+        }
+    }
+
+    void credit(Money amount) {
+        balance = balance.plus(amount);
+    }
+
+    void debit(Money amount) {
+        balance = balance.minus(amount);
+    }
+
+    void addWithdrawalAmount(Money amount) {
+        withdrawalAmount = withdrawalAmount.plus(amount);
+    }
+
+    void addTransferAmount(Money amount) {
+        transferAmount = transferAmount.plus(amount);
+    }
+}
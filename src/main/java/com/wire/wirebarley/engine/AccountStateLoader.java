@@ -0,0 +1,35 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.domain.DailyLimit;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Hydrates an account into a partition the first time a command touches it.
+ */
+@RequiredArgsConstructor
+class AccountStateLoader {
+
+    private final AccountRepository accountRepository;
+    private final DailyLimitRepository dailyLimitRepository;
+
+    Optional<AccountState> load(String accountNumber, LocalDate today) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(account -> {
+                    Optional<DailyLimit> dailyLimit = dailyLimitRepository
+                            .findByAccountNumberAndTransactionDate(accountNumber, today);
+                    return new AccountState(
+                            accountNumber,
+                            account.getBalance(),
+                            today,
+                            dailyLimit.map(DailyLimit::getWithdrawalAmount).orElse(Money.ZERO),
+                            dailyLimit.map(DailyLimit::getTransferAmount).orElse(Money.ZERO)
+                    );
+                });
+    }
+}
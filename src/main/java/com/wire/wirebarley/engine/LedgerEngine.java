@@ -0,0 +1,299 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.domain.TransferFee;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.event.AccountDeletedEvent;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-writer ledger: accounts are sharded by hash of account number onto single-threaded partitions that
+ * hold balances and daily limit usage in memory and apply commands without database locks. Applied changes
+ * are persisted by the {@link LedgerJournal} in batches.
+ *
+ * <p>A transfer between two partitions runs as a deterministic two-step protocol: the target is verified on
+ * its partition, the source partition validates and debits, then the target partition credits. Because every
+ * partition processes its queue in order, the debit always precedes the credit. If the credit fails (the target
+ * was deleted in between) the source partition refunds the debit. The refund waits for room in a full queue
+ * instead of being rejected; if it still cannot be applied, the debit stands unrefunded, so the engine stops
+ * accepting commands and logs the transfer for reconciliation.
+ *
+ * <p>A command that changes money is never given up on: if it takes longer than {@code command-timeout} the
+ * caller keeps waiting for its outcome, because the command stays queued and will still apply. Only a failure
+ * raised by the command itself is definite; anything else leaves the outcome unknown, so the engine stops
+ * accepting commands (like a failed journal) instead of refunding or reporting a failure for a change that
+ * may have happened.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.ledger-engine", name = "enabled", havingValue = "true")
+public class LedgerEngine {
+
+    private static final Money DAILY_WITHDRAWAL_LIMIT = Money.ofMajor(1_000_000);
+    private static final Money DAILY_TRANSFER_LIMIT = Money.ofMajor(3_000_000);
+
+    private final LedgerPartition[] partitions;
+    private final LedgerJournal journal;
+    private final Duration commandTimeout;
+    private volatile boolean failed;
+
+    public LedgerEngine(AccountRepository accountRepository,
+                        DailyLimitRepository dailyLimitRepository,
+                        TransactionRepository transactionRepository,
+                        DailySummaryRepository dailySummaryRepository,
+                        OutboxEventRepository outboxEventRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${wirebarley.ledger-engine.partitions:8}") int partitionCount,
+                        @Value("${wirebarley.ledger-engine.queue-capacity:10000}") int queueCapacity,
+                        @Value("${wirebarley.ledger-engine.journal-batch-size:500}") int journalBatchSize,
+                        @Value("${wirebarley.ledger-engine.command-timeout:30s}") Duration commandTimeout) {
+        this.commandTimeout = commandTimeout;
+        AccountStateLoader loader = new AccountStateLoader(accountRepository, dailyLimitRepository);
+        this.partitions = new LedgerPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new LedgerPartition(i, queueCapacity, loader);
+        }
+        this.journal = new LedgerJournal(new TransactionTemplate(transactionManager), transactionRepository,
+                accountRepository, dailyLimitRepository, dailySummaryRepository, outboxEventRepository, eventPublisher,
+                journalBatchSize);
+    }
+
+    @PostConstruct
+    void start() {
+        journal.start();
+        for (LedgerPartition partition : partitions) {
+            partition.start();
+        }
+        log.info("Ledger engine started with {} partitions", partitions.length);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (LedgerPartition partition : partitions) {
+            partition.stop();
+        }
+        journal.stop();
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        partitionFor(event.accountNumber()).submit(partition -> {
+            partition.evict(event.accountNumber());
+            return null;
+        });
+    }
+
+    public TransactionResponse deposit(String accountNumber, BigDecimal value) {
+        Money amount = Money.of(value);
+        LocalDate today = LocalDate.now();
+        Applied applied = awaitApplied(partitionFor(accountNumber).submit(partition -> {
+            AccountState account = partition.account(accountNumber, today);
+            account.credit(amount);
+            Transaction transaction = Transaction.createDeposit(accountNumber, value,
+                    account.getBalance().toBigDecimal());
+            return new Applied(transaction, journal.append(transaction, account, Money.ZERO, Money.ZERO));
+        }));
+        awaitApplied(applied.persisted());
+        return new TransactionResponse(applied.transaction());
+    }
+
+    public TransactionResponse withdraw(String accountNumber, BigDecimal value) {
+        Money amount = Money.of(value);
+        LocalDate today = LocalDate.now();
+        Applied applied = awaitApplied(partitionFor(accountNumber).submit(partition -> {
+            AccountState account = partition.account(accountNumber, today);
+            if (account.getWithdrawalAmount().plus(amount).isGreaterThan(DAILY_WITHDRAWAL_LIMIT)) {
+                throw new BusinessException(ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+            }
+            if (account.getBalance().isLessThan(amount)) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            account.debit(amount);
+            account.addWithdrawalAmount(amount);
+            Transaction transaction = Transaction.createWithdrawal(accountNumber, value,
+                    account.getBalance().toBigDecimal());
+            return new Applied(transaction, journal.append(transaction, account, amount, Money.ZERO));
+        }));
+        awaitApplied(applied.persisted());
+        return new TransactionResponse(applied.transaction());
+    }
+
+    public TransferResponse transfer(String sourceAccountNumber, String targetAccountNumber, BigDecimal value) {
+        if (sourceAccountNumber.equals(targetAccountNumber)) {
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+        }
+
+        LocalDate today = LocalDate.now();
+        Money amount = Money.of(value);
+        Money fee = TransferFee.calculate(amount);
+        Money totalDeduction = amount.plus(fee);
+        LedgerPartition sourcePartition = partitionFor(sourceAccountNumber);
+        LedgerPartition targetPartition = partitionFor(targetAccountNumber);
+
+        // Step 0: make sure the target exists before any money leaves the source
+        await(targetPartition.submit(partition -> partition.account(targetAccountNumber, today)));
+
+        // Step 1: validate and debit on the source partition
+        Applied debit = awaitApplied(sourcePartition.submit(partition -> {
+            AccountState source = partition.account(sourceAccountNumber, today);
+            if (source.getTransferAmount().plus(amount).isGreaterThan(DAILY_TRANSFER_LIMIT)) {
+                throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+            }
+            if (source.getBalance().isLessThan(totalDeduction)) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            source.debit(totalDeduction);
+            source.addTransferAmount(amount);
+            Transaction transferOut = Transaction.createTransferOut(sourceAccountNumber, value,
+                    source.getBalance().toBigDecimal(), targetAccountNumber, fee.toBigDecimal());
+            return new Applied(transferOut, journal.append(transferOut, source, Money.ZERO, amount));
+        }));
+
+        // Step 2: credit on the target partition
+        Applied credit;
+        try {
+            credit = awaitApplied(targetPartition.submit(partition -> {
+                AccountState target = partition.account(targetAccountNumber, today);
+                target.credit(amount);
+                Transaction transferIn = Transaction.createTransferIn(
+                        targetAccountNumber, value, target.getBalance().toBigDecimal(), sourceAccountNumber);
+                return new Applied(transferIn, journal.append(transferIn, target, Money.ZERO, Money.ZERO));
+            }));
+        } catch (OutcomeUnknownException e) {
+            // The credit may have applied; refunding could create money, so leave it to reconciliation
+            log.error("Transfer credit outcome unknown, source not refunded: from={}, to={}, amount={}",
+                    sourceAccountNumber, targetAccountNumber, totalDeduction);
+            throw e;
+        } catch (BusinessException e) {
+            // Raised by the credit command itself (target deleted) or the submit was rejected: nothing applied
+            refund(sourcePartition, sourceAccountNumber, targetAccountNumber, totalDeduction, amount, today);
+            throw e;
+        }
+
+        awaitApplied(debit.persisted());
+        awaitApplied(credit.persisted());
+        return new TransferResponse(
+                sourceAccountNumber,
+                targetAccountNumber,
+                value,
+                debit.transaction().getFee(),
+                debit.transaction().getBalanceAfter(),
+                credit.transaction().getBalanceAfter()
+        );
+    }
+
+    private void refund(LedgerPartition sourcePartition, String sourceAccountNumber, String targetAccountNumber,
+                        Money totalDeduction, Money amount, LocalDate today) {
+        try {
+            Applied refund = awaitApplied(sourcePartition.submitWaiting(partition -> {
+                AccountState source = partition.account(sourceAccountNumber, today);
+                source.credit(totalDeduction);
+                source.addTransferAmount(amount.negate());
+                Transaction transaction = new Transaction(sourceAccountNumber, TransactionType.TRANSFER_IN,
+                        totalDeduction.toBigDecimal(), source.getBalance().toBigDecimal(), targetAccountNumber, null,
+                        "Refund of transfer to " + targetAccountNumber);
+                return new Applied(transaction, journal.append(transaction, source, Money.ZERO, amount.negate()));
+            }));
+            awaitApplied(refund.persisted());
+        } catch (BusinessException e) {
+            // The debit is journaled and nothing credits it back: stop and leave it to reconciliation
+            failed = true;
+            log.error("Transfer refund failed, rejecting further commands: from={}, to={}, amount={}",
+                    sourceAccountNumber, targetAccountNumber, totalDeduction, e);
+            throw e instanceof OutcomeUnknownException unknown ? unknown : new OutcomeUnknownException(e);
+        }
+        log.warn("Transfer credit failed, refunded source account: account={}, amount={}",
+                sourceAccountNumber, totalDeduction);
+    }
+
+    private LedgerPartition partitionFor(String accountNumber) {
+        if (failed || journal.isFailed()) {
+            throw new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE);
+        }
+        return partitions[Math.floorMod(accountNumber.hashCode(), partitions.length)];
+    }
+
+    /**
+     * Waits for a command that changes money. A slow command is waited for until it has run, so its outcome is
+     * always known unless the command fails unexpectedly or the caller is interrupted.
+     */
+    private <T> T awaitApplied(CompletableFuture<T> future) {
+        try {
+            try {
+                return future.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Ledger engine command exceeded {}, waiting for its outcome", commandTimeout);
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw outcomeUnknown(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw outcomeUnknown(e);
+        }
+    }
+
+    private OutcomeUnknownException outcomeUnknown(Throwable cause) {
+        failed = true;
+        log.error("Ledger engine command outcome unknown, rejecting further commands", cause);
+        return new OutcomeUnknownException(cause);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("Ledger engine command failed", e.getCause());
+            throw new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE);
+        }
+    }
+
+    private record Applied(Transaction transaction, CompletableFuture<Void> persisted) {
+    }
+
+    private static final class OutcomeUnknownException extends BusinessException {
+
+        OutcomeUnknownException(Throwable cause) {
+            super(ErrorCode.LEDGER_ENGINE_UNAVAILABLE, cause);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionHistoryReader;
+import com.wire.wirebarley.service.TransactionService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes money movements through the {@link LedgerEngine} when it is enabled. Reads (history, export) keep
+ * using the database, which the engine's journal updates in batches.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "wirebarley.ledger-engine", name = "enabled", havingValue = "true")
+public class LedgerEngineTransactionService extends TransactionService {
+
+    private final LedgerEngine ledgerEngine;
+
+    public LedgerEngineTransactionService(AccountService accountService,
+                                          TransactionRepository transactionRepository,
+                                          DailyLimitRepository dailyLimitRepository,
+                                          TransactionHistoryReader transactionHistoryReader,
+                                          DailySummaryRepository dailySummaryRepository,
+                                          OutboxEventRepository outboxEventRepository,
+                                          ApplicationEventPublisher eventPublisher,
+                                          LedgerEngine ledgerEngine) {
+        super(accountService, transactionRepository, dailyLimitRepository, transactionHistoryReader,
+                dailySummaryRepository, outboxEventRepository, eventPublisher);
+        this.ledgerEngine = ledgerEngine;
+    }
+
+    // No database transaction here: the engine applies commands in memory and persists them itself
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransactionResponse deposit(DepositRequest request) {
+        return ledgerEngine.deposit(request.accountNumber(), request.amount());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransactionResponse withdraw(WithdrawalRequest request) {
+        return ledgerEngine.withdraw(request.accountNumber(), request.amount());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransferResponse transfer(TransferRequest request) {
+        return ledgerEngine.transfer(request.sourceAccountNumber(), request.targetAccountNumber(), request.amount());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        List<TransferRequest> transfers = request.transfers();
+        List<BatchTransferItemResult> results = new ArrayList<>(transfers.size());
+        for (int i = 0; i < transfers.size(); i++) {
+            try {
+                results.add(BatchTransferItemResult.success(i, transfer(transfers.get(i))));
+            } catch (BusinessException e) {
+                results.add(BatchTransferItemResult.failure(i, e.getErrorCode()));
+            }
+        }
+        return new BatchTransferResponse(results);
+    }
+}
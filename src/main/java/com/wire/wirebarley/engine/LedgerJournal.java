@@ -0,0 +1,171 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.event.TransactionsRecordedEvent;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists applied ledger changes in batches (group commit). Each batch is written in one database
+ * transaction: the new transactions rows, the latest balance of every touched account, the daily limit
+ * deltas, the daily summaries and the outbox copies. A command is acknowledged to its caller (and balance
+ * streams are notified) only once the batch holding it has committed.
+ *
+ * <p>If a batch fails the in-memory state is ahead of the database, so the journal fails stop: every pending
+ * and future command is rejected until the application is restarted and state is reloaded from the database.
+ */
+@Slf4j
+class LedgerJournal {
+
+    record Entry(
+            Transaction transaction,
+            Money balanceAfter,
+            LocalDate limitDate,
+            Money withdrawalDelta,
+            Money transferDelta,
+            CompletableFuture<Void> persisted
+    ) {
+    }
+
+    private record LimitKey(String accountNumber, LocalDate date) {
+    }
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final DailyLimitRepository dailyLimitRepository;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile boolean failed;
+
+    LedgerJournal(TransactionTemplate transactionTemplate, TransactionRepository transactionRepository,
+                  AccountRepository accountRepository, DailyLimitRepository dailyLimitRepository,
+                  DailySummaryRepository dailySummaryRepository, OutboxEventRepository outboxEventRepository,
+                  ApplicationEventPublisher eventPublisher, int batchSize) {
+        this.transactionTemplate = transactionTemplate;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.dailyLimitRepository = dailyLimitRepository;
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::run, "ledger-journal");
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    boolean isFailed() {
+        return failed;
+    }
+
+    CompletableFuture<Void> append(Transaction transaction, AccountState state,
+                                   Money withdrawalDelta, Money transferDelta) {
+        Entry entry = new Entry(transaction, state.getBalance(), state.getLimitDate(),
+                withdrawalDelta, transferDelta, new CompletableFuture<>());
+        if (failed) {
+            entry.persisted().completeExceptionally(new IllegalStateException("Ledger journal has failed"));
+        } else {
+            queue.add(entry);
+        }
+        return entry.persisted();
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        if (failed) {
+            batch.forEach(entry -> entry.persisted()
+                    .completeExceptionally(new IllegalStateException("Ledger journal has failed")));
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            batch.forEach(entry -> entry.persisted().complete(null));
+        } catch (RuntimeException e) {
+            failed = true;
+            log.error("Ledger journal batch of {} entries failed, rejecting further commands", batch.size(), e);
+            batch.forEach(entry -> entry.persisted().completeExceptionally(e));
+        }
+    }
+
+    private void persist(List<Entry> batch) {
+        // Entries of one account arrive in apply order, so the last one carries its latest balance
+        Map<String, Money> balances = new LinkedHashMap<>();
+        Map<LimitKey, Money[]> limitDeltas = new LinkedHashMap<>();
+        List<Transaction> transactions = new ArrayList<>(batch.size());
+
+        for (Entry entry : batch) {
+            String accountNumber = entry.transaction().getAccountNumber();
+            transactions.add(entry.transaction());
+            balances.put(accountNumber, entry.balanceAfter());
+            if (entry.withdrawalDelta().signum() != 0 || entry.transferDelta().signum() != 0) {
+                Money[] deltas = limitDeltas.computeIfAbsent(
+                        new LimitKey(accountNumber, entry.limitDate()),
+                        key -> new Money[]{Money.ZERO, Money.ZERO});
+                deltas[0] = deltas[0].plus(entry.withdrawalDelta());
+                deltas[1] = deltas[1].plus(entry.transferDelta());
+            }
+        }
+
+        transactionRepository.saveAll(transactions);
+        List<Long> ids = transactions.stream().map(Transaction::getId).toList();
+        dailySummaryRepository.addEntries(ids);
+        outboxEventRepository.addEvents(ids);
+        eventPublisher.publishEvent(new TransactionsRecordedEvent(
+                transactions.stream().map(TransactionResponse::new).toList()));
+        balances.forEach(accountRepository::updateBalance);
+        limitDeltas.forEach((key, deltas) ->
+                dailyLimitRepository.addAmounts(key.accountNumber(), key.date(), deltas[0].toBigDecimal(),
+                        deltas[1].toBigDecimal()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A single-threaded shard of the ledger. Commands are applied one at a time, in arrival order, by the
+ * partition's own thread, so account state is mutated without any locks.
+ */
+@Slf4j
+class LedgerPartition {
+
+    private final int index;
+    private final BlockingQueue<Runnable> commands;
+    private final AccountStateLoader loader;
+    private final Map<String, AccountState> accounts = new HashMap<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    LedgerPartition(int index, int queueCapacity, AccountStateLoader loader) {
+        this.index = index;
+        this.commands = new ArrayBlockingQueue<>(queueCapacity);
+        this.loader = loader;
+        this.thread = new Thread(this::run, "ledger-partition-" + index);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    <T> CompletableFuture<T> submit(Function<LedgerPartition, T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        boolean accepted = running && commands.offer(task(command, future));
+        if (!accepted) {
+            future.completeExceptionally(new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE));
+        }
+        return future;
+    }
+
+    /**
+     * Like {@link #submit}, but waits for queue space instead of rejecting when the queue is full. For commands
+     * that must not be dropped, such as a refund of a debit that has already been applied.
+     */
+    <T> CompletableFuture<T> submitWaiting(Function<LedgerPartition, T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE));
+            return future;
+        }
+        try {
+            commands.put(task(command, future));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE));
+        }
+        return future;
+    }
+
+    /**
+     * Must only be called from a command running on this partition.
+     */
+    AccountState account(String accountNumber, LocalDate today) {
+        AccountState state = accounts.get(accountNumber);
+        if (state == null) {
+            state = loader.load(accountNumber, today)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+            accounts.put(accountNumber, state);
+        }
+        state.rollTo(today);
+        return state;
+    }
+
+    void evict(String accountNumber) {
+        accounts.remove(accountNumber);
+    }
+
+    void clear() {
+        accounts.clear();
+    }
+
+    private <T> Runnable task(Function<LedgerPartition, T> command, CompletableFuture<T> future) {
+        return () -> {
+            try {
+                future.complete(command.apply(this));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+    }
+
+    private void run() {
+        while (running || !commands.isEmpty()) {
+            try {
+                Runnable command = commands.poll(100, TimeUnit.MILLISECONDS);
+                if (command != null) {
+                    command.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.info("Ledger partition {} stopped", index);
+    }
+}
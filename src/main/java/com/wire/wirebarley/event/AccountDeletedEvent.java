@@ -0,0 +1,6 @@
+package com.wire.wirebarley.event;
+
+public record AccountDeletedEvent(
+        String accountNumber
+) {
+}
@@ -0,0 +1,10 @@
+package com.wire.wirebarley.event;
+
+import com.wire.wirebarley.dto.TransactionResponse;
+
+import java.util.List;
+
+public record TransactionsRecordedEvent(
+        List<TransactionResponse> transactions
+) {
+}
@@ -10,17 +10,37 @@ public enum ErrorCode {
     ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "A001", "Account not found"),
     ACCOUNT_ALREADY_EXISTS(HttpStatus.CONFLICT, "A002", "Account already exists"),
     INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "A003", "Insufficient balance"),
+    INVALID_ACCOUNT_NUMBER(HttpStatus.BAD_REQUEST, "A004", "Account number must be 10-20 digits"),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "A005", "Unsupported import format (csv, ndjson)"),
 
     // Transaction errors
     INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "T001", "Invalid amount"),
     SAME_ACCOUNT_TRANSFER(HttpStatus.BAD_REQUEST, "T002", "Cannot transfer to the same account"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "T003", "Invalid history cursor"),
+    UNSUPPORTED_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "T004", "Unsupported export format (ndjson, csv)"),
+    TRANSFER_NOT_FOUND(HttpStatus.NOT_FOUND, "T005", "Transfer not found"),
+    INVALID_CALLBACK_URL(HttpStatus.BAD_REQUEST, "T006", "Callback-Url must be an absolute http or https URL to an allowed public host"),
+    INVALID_SUMMARY_RANGE(HttpStatus.BAD_REQUEST, "T007", "from and to must be yyyy-MM-dd dates with from not after to"),
+    UNSUPPORTED_SUMMARY_PERIOD(HttpStatus.BAD_REQUEST, "T008", "Unsupported summary period (daily, monthly, yearly)"),
+    INVALID_STATEMENT_RANGE(HttpStatus.BAD_REQUEST, "T009", "from and to are required ISO-8601 date-times with from before to"),
+    UNSUPPORTED_TRANSACTION_TYPE(HttpStatus.BAD_REQUEST, "T010", "Unsupported transaction type"),
 
     // Daily limit errors
     DAILY_WITHDRAWAL_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "L001", "Daily withdrawal limit exceeded (max: 1,000,000)"),
     DAILY_TRANSFER_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "L002", "Daily transfer limit exceeded (max: 3,000,000)"),
 
+    // Idempotency errors
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "I001", "Idempotency-Key must be 1 to 100 characters"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "I002", "Idempotency-Key was already used for a different request"),
+
+    // Event log errors
+    INVALID_EVENT_OFFSET(HttpStatus.BAD_REQUEST, "E001", "Event offset must be between 0 and the end of the log"),
+    EVENT_LOG_EPOCH_MISMATCH(HttpStatus.CONFLICT, "E002", "Event log was recreated. Restart from offset 0 with the current epoch"),
+
     // System errors
     CONCURRENT_UPDATE(HttpStatus.CONFLICT, "S001", "Concurrent update detected. Please try again"),
+    LEDGER_ENGINE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "S002", "Ledger engine is unavailable. Please try again"),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S003", "Server is busy. Please try again"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S999", "Internal server error");
 
     private final HttpStatus status;
@@ -1,7 +1,10 @@
 package com.wire.wirebarley.exception;
 
+import jakarta.persistence.LockTimeoutException;
 import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -35,9 +38,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(OptimisticLockException.class)
-    public ResponseEntity<ErrorResponse> handleOptimisticLockException(OptimisticLockException e) {
-        log.error("Optimistic lock exception occurred: {}", e.getMessage());
+    // Lock conflicts that were not retried (or escaped a caller-owned transaction)
+    @ExceptionHandler({OptimisticLockException.class, PessimisticLockException.class, LockTimeoutException.class,
+            ConcurrencyFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConcurrencyException(RuntimeException e) {
+        log.error("Concurrency exception occurred: {}", e.getMessage());
         ErrorResponse errorResponse = new ErrorResponse(ErrorCode.CONCURRENT_UPDATE);
         return new ResponseEntity<>(errorResponse, ErrorCode.CONCURRENT_UPDATE.getStatus());
     }
@@ -0,0 +1,222 @@
+package com.wire.wirebarley.ledger;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.domain.TransferFee;
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.retry.RetryOnConflict;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.LedgerBalances;
+import com.wire.wirebarley.service.TransactionHistoryReader;
+import com.wire.wirebarley.service.TransactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Append-only ledger mode: the {@code transactions} table is the source of truth and {@code accounts.balance}
+ * is a snapshot refreshed by the {@link LedgerSnapshotJob}. Credits are pure inserts that take only a shared lock
+ * on the credited account, so it cannot be deleted under them while other credits still run side by side. Debits
+ * lock only the debited account (never update it) to check snapshot plus tail against the amount, so a hot
+ * account receiving money sees no row-update contention at all.
+ *
+ * <p>Balances after a credit are not known without that lock, so {@code balanceAfter} is recorded only for
+ * debits and is {@code null} for deposits and incoming transfers.
+ */
+@Slf4j
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "wirebarley.append-only-ledger", name = "enabled", havingValue = "true")
+public class AppendOnlyTransactionService extends TransactionService {
+
+    private static final Money DAILY_WITHDRAWAL_LIMIT = Money.ofMajor(1_000_000);
+    private static final Money DAILY_TRANSFER_LIMIT = Money.ofMajor(3_000_000);
+
+    private final AccountService accountService;
+    private final DailyLimitRepository dailyLimitRepository;
+    private final LedgerBalances ledgerBalances;
+    private final LedgerWatermark ledgerWatermark;
+
+    public AppendOnlyTransactionService(AccountService accountService,
+                                        TransactionRepository transactionRepository,
+                                        DailyLimitRepository dailyLimitRepository,
+                                        TransactionHistoryReader transactionHistoryReader,
+                                        DailySummaryRepository dailySummaryRepository,
+                                        OutboxEventRepository outboxEventRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        LedgerBalances ledgerBalances,
+                                        LedgerWatermark ledgerWatermark) {
+        super(accountService, transactionRepository, dailyLimitRepository, transactionHistoryReader,
+                dailySummaryRepository, outboxEventRepository, eventPublisher);
+        this.accountService = accountService;
+        this.dailyLimitRepository = dailyLimitRepository;
+        this.ledgerBalances = ledgerBalances;
+        this.ledgerWatermark = ledgerWatermark;
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public TransactionResponse deposit(DepositRequest request) {
+        validateAmount(request.amount());
+        accountService.lockAccountForCredit(request.accountNumber());
+
+        Transaction deposit = append(Transaction.createDeposit(request.accountNumber(), request.amount(), null)).get(0);
+
+        log.info("Deposit appended: account={}, amount={}", request.accountNumber(), request.amount());
+        return new TransactionResponse(deposit);
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public TransactionResponse withdraw(WithdrawalRequest request) {
+        validateAmount(request.amount());
+        Account account = accountService.findAccountByAccountNumberWithLock(request.accountNumber());
+        Money amount = Money.of(request.amount());
+        Money balance = ledgerBalances.balanceOf(account);
+        if (balance.isLessThan(amount)) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        int counted = dailyLimitRepository.addWithdrawalAmountWithinLimit(
+                request.accountNumber(), LocalDate.now(), request.amount(), DAILY_WITHDRAWAL_LIMIT.toBigDecimal());
+        if (counted == 0) {
+            throw new BusinessException(ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        }
+
+        Transaction withdrawal = append(Transaction.createWithdrawal(
+                request.accountNumber(), request.amount(), balance.minus(amount).toBigDecimal())).get(0);
+
+        log.info("Withdrawal appended: account={}, amount={}", request.accountNumber(), request.amount());
+        return new TransactionResponse(withdrawal);
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public TransferResponse transfer(TransferRequest request) {
+        if (request.sourceAccountNumber().equals(request.targetAccountNumber())) {
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+        }
+        validateAmount(request.amount());
+
+        // Source exclusively, target shared, in account number order so opposite transfers cannot deadlock
+        Account source;
+        if (request.sourceAccountNumber().compareTo(request.targetAccountNumber()) < 0) {
+            source = accountService.findAccountByAccountNumberWithLock(request.sourceAccountNumber());
+            accountService.lockAccountForCredit(request.targetAccountNumber());
+        } else {
+            accountService.lockAccountForCredit(request.targetAccountNumber());
+            source = accountService.findAccountByAccountNumberWithLock(request.sourceAccountNumber());
+        }
+
+        TransferResponse response = appendTransfer(request, ledgerBalances.balanceOf(source));
+        log.info("Transfer appended: from={}, to={}, amount={}, fee={}", request.sourceAccountNumber(),
+                request.targetAccountNumber(), request.amount(), response.fee());
+        return response;
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        List<TransferRequest> transfers = request.transfers();
+
+        // Targets are locked too, so none can be deleted before the batch commits; one sorted pass keeps the
+        // lock order
+        SortedSet<String> accountNumbers = new TreeSet<>();
+        for (TransferRequest transfer : transfers) {
+            accountNumbers.add(transfer.sourceAccountNumber());
+            accountNumbers.add(transfer.targetAccountNumber());
+        }
+        Map<String, Account> accounts = accountService.findAccountsByAccountNumbersWithLock(accountNumbers);
+
+        // Running balances of the locked sources, including credits made earlier in this batch
+        Map<String, Money> balances = new HashMap<>();
+        List<BatchTransferItemResult> results = new ArrayList<>(transfers.size());
+        for (int i = 0; i < transfers.size(); i++) {
+            TransferRequest transfer = transfers.get(i);
+            try {
+                if (transfer.sourceAccountNumber().equals(transfer.targetAccountNumber())) {
+                    throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+                }
+                Account source = accounts.get(transfer.sourceAccountNumber());
+                if (source == null || !accounts.containsKey(transfer.targetAccountNumber())) {
+                    throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+                }
+
+                Money balance = balances.computeIfAbsent(source.getAccountNumber(),
+                        accountNumber -> ledgerBalances.balanceOf(source));
+                TransferResponse response = appendTransfer(transfer, balance);
+                balances.put(source.getAccountNumber(), Money.of(response.sourceBalanceAfter()));
+                balances.computeIfPresent(transfer.targetAccountNumber(),
+                        (accountNumber, targetBalance) -> targetBalance.plus(Money.of(transfer.amount())));
+                results.add(BatchTransferItemResult.success(i, response));
+            } catch (BusinessException e) {
+                results.add(BatchTransferItemResult.failure(i, e.getErrorCode()));
+            }
+        }
+
+        BatchTransferResponse response = new BatchTransferResponse(results);
+        log.info("Batch transfer appended: total={}, succeeded={}, failed={}",
+                response.totalCount(), response.successCount(), response.failureCount());
+        return response;
+    }
+
+    // Checks run before anything is written, so a refused transfer leaves no trace
+    private TransferResponse appendTransfer(TransferRequest request, Money sourceBalance) {
+        Money amount = Money.of(request.amount());
+        Money fee = TransferFee.calculate(amount);
+        Money sourceBalanceAfter = sourceBalance.minus(amount.plus(fee));
+        if (sourceBalanceAfter.signum() < 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        int counted = dailyLimitRepository.addTransferAmountWithinLimit(
+                request.sourceAccountNumber(), LocalDate.now(), request.amount(), DAILY_TRANSFER_LIMIT.toBigDecimal());
+        if (counted == 0) {
+            throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+        }
+
+        BigDecimal feeValue = fee.toBigDecimal();
+        BigDecimal sourceBalanceAfterValue = sourceBalanceAfter.toBigDecimal();
+        append(
+                Transaction.createTransferOut(request.sourceAccountNumber(), request.amount(),
+                        sourceBalanceAfterValue, request.targetAccountNumber(), feeValue),
+                Transaction.createTransferIn(request.targetAccountNumber(), request.amount(), null,
+                        request.sourceAccountNumber())
+        );
+        return new TransferResponse(request.sourceAccountNumber(), request.targetAccountNumber(), request.amount(),
+                feeValue, sourceBalanceAfterValue, null);
+    }
+
+    private List<Transaction> append(Transaction... entries) {
+        return ledgerWatermark.append(List.of(entries));
+    }
+
+    private void validateAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+}
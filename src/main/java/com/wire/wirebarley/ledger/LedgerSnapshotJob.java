@@ -0,0 +1,132 @@
+package com.wire.wirebarley.ledger;
+
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Folds appended ledger entries into {@code accounts.balance} in the background. Each run only looks at entries
+ * between the previous run's watermark and the current safe watermark, and only at the accounts that have such
+ * entries. Every account is updated in its own short transaction under its row lock, which it shares with
+ * debits, so a debit never sees a snapshot and a tail that overlap. The same fold adds the entries to the daily
+ * summaries, so credits stay lock-free and each entry is counted exactly once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.append-only-ledger", name = "enabled", havingValue = "true")
+public class LedgerSnapshotJob {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final LedgerWatermark ledgerWatermark;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "ledger-snapshot"));
+    private final ReentrantLock running = new ReentrantLock();
+    private volatile long foldedUpTo = -1;
+
+    public LedgerSnapshotJob(AccountRepository accountRepository,
+                             TransactionRepository transactionRepository,
+                             DailySummaryRepository dailySummaryRepository,
+                             LedgerWatermark ledgerWatermark,
+                             DatabaseBulkhead databaseBulkhead,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${wirebarley.append-only-ledger.snapshot-interval:1s}") Duration interval) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.ledgerWatermark = ledgerWatermark;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("Ledger snapshot failed", e);
+        }
+    }
+
+    /**
+     * Runs one incremental snapshot and returns the number of accounts it looked at.
+     */
+    public int snapshot() {
+        running.lock();
+        try {
+            return snapshotLocked();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * Highest ledger id already folded into every account's snapshot, or -1 before the first run. Entries up to
+     * here are no longer needed to compute balances.
+     */
+    public long foldedUpTo() {
+        return foldedUpTo;
+    }
+
+    private int snapshotLocked() {
+        if (foldedUpTo < 0) {
+            foldedUpTo = accountRepository.findMinSnapshotTransactionId();
+        }
+        long watermark = ledgerWatermark.safeWatermark();
+        if (watermark <= foldedUpTo) {
+            return 0;
+        }
+
+        List<String> accountNumbers = transactionRepository.findAccountNumbersWithEntriesBetween(foldedUpTo, watermark);
+        for (String accountNumber : accountNumbers) {
+            databaseBulkhead.execute(() -> transactionTemplate.execute(status -> {
+                accountRepository.findByAccountNumberWithLock(accountNumber)
+                        .filter(account -> account.getSnapshotTransactionId() < watermark)
+                        .ifPresent(account -> {
+                            long folded = account.getSnapshotTransactionId();
+                            dailySummaryRepository.addEntriesBetween(accountNumber, folded, watermark);
+                            Money balanceChange = Money.of(
+                                    transactionRepository.sumBalanceChange(accountNumber, folded, watermark));
+                            account.applySnapshot(balanceChange, watermark);
+                        });
+                return null;
+            }));
+        }
+        foldedUpTo = watermark;
+
+        log.debug("Ledger snapshot: watermark={}, accounts={}", watermark, accountNumbers.size());
+        return accountNumbers.size();
+    }
+}
@@ -0,0 +1,88 @@
+package com.wire.wirebarley.ledger;
+
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.event.TransactionsRecordedEvent;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends ledger entries and tracks which of their ids may still be uncommitted, so the snapshot job never folds
+ * past an entry that could commit later. Ids are assigned in increasing order but transactions commit in any
+ * order; an id is registered as in flight in the same critical section that assigns it and removed once its
+ * transaction completes.
+ *
+ * <p>The tracking is in memory: the append-only ledger assumes a single application instance, like the ledger
+ * engine.
+ */
+@Component
+public class LedgerWatermark {
+
+    private final TransactionRepository transactionRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock allocation = new ReentrantLock();
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+    public LedgerWatermark(TransactionRepository transactionRepository,
+                           OutboxEventRepository outboxEventRepository,
+                           ApplicationEventPublisher eventPublisher) {
+        this.transactionRepository = transactionRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Persists the entries, and their outbox copies, in the caller's transaction. Must run inside an active
+     * transaction.
+     */
+    public List<Transaction> append(List<Transaction> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Ledger entries must be appended inside a transaction");
+        }
+        List<Transaction> saved;
+        allocation.lock();
+        try {
+            saved = transactionRepository.saveAll(entries);
+            saved.forEach(entry -> inFlight.add(entry.getId()));
+        } finally {
+            allocation.unlock();
+        }
+        outboxEventRepository.addEvents(saved.stream().map(Transaction::getId).toList());
+        eventPublisher.publishEvent(new TransactionsRecordedEvent(
+                saved.stream().map(TransactionResponse::new).toList()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                saved.forEach(entry -> inFlight.remove(entry.getId()));
+            }
+        });
+        return saved;
+    }
+
+    /**
+     * Highest transaction id at or below which every entry is either committed or rolled back.
+     */
+    public long safeWatermark() {
+        // Read the maximum first: every id below it was assigned before this point, so if it is still
+        // uncommitted it is already registered as in flight below
+        long maxId = transactionRepository.findMaxId();
+        allocation.lock();
+        try {
+            Iterator<Long> oldest = inFlight.iterator();
+            return oldest.hasNext() ? Math.min(maxId, oldest.next() - 1) : maxId;
+        } finally {
+            allocation.unlock();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.wire.wirebarley.metrics;
+
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.BatchTransferItemResult;
+import com.wire.wirebarley.dto.BatchTransferResponse;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters for money movements, published under /actuator/metrics and /actuator/prometheus.
+ *
+ * <ul>
+ *   <li>{@code wirebarley.transaction.requests}: timer per service operation, tagged with outcome and error code</li>
+ *   <li>{@code wirebarley.transaction.amount}: distribution of moved amounts per {@link TransactionType}</li>
+ *   <li>{@code wirebarley.transfer.fees}: running total of transfer fees</li>
+ *   <li>{@code wirebarley.daily.limit.rejections}: requests refused by the daily limits</li>
+ *   <li>{@code wirebarley.account.lock.wait}: time to acquire account row locks (wait plus the locking statement)</li>
+ *   <li>{@code wirebarley.transaction.retries}: attempts repeated after a lock conflict, by exception type</li>
+ *   <li>{@code wirebarley.transaction.retries.exhausted}: operations that still conflicted after the last attempt</li>
+ * </ul>
+ */
+@Component
+public class TransactionMetrics {
+
+    private static final String NO_ERROR = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter feeTotal;
+
+    public TransactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.feeTotal = Counter.builder("wirebarley.transfer.fees")
+                .description("Sum of transfer fees charged")
+                .baseUnit("won")
+                .register(meterRegistry);
+    }
+
+    public void recordOperation(String operation, long durationNanos, ErrorCode errorCode) {
+        Timer.builder("wirebarley.transaction.requests")
+                .description("Transaction service operations, including the database commit")
+                .tag("operation", operation)
+                .tag("outcome", errorCode == null ? "success" : "failure")
+                .tag("error", errorCode == null ? NO_ERROR : errorCode.getCode())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (errorCode == ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED) {
+            recordDailyLimitRejection(TransactionType.WITHDRAWAL);
+        } else if (errorCode == ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED) {
+            recordDailyLimitRejection(TransactionType.TRANSFER_OUT);
+        }
+    }
+
+    /**
+     * Records amounts and fees from a completed operation's result. Results of reads are ignored.
+     */
+    public void recordResult(Object result) {
+        if (result instanceof TransactionResponse transaction) {
+            recordMovement(transaction.type(), transaction.amount());
+        } else if (result instanceof TransferResponse transfer) {
+            recordTransfer(transfer);
+        } else if (result instanceof BatchTransferResponse batch) {
+            for (BatchTransferItemResult item : batch.results()) {
+                if (item.success()) {
+                    recordTransfer(item.transfer());
+                } else if (ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED.getCode().equals(item.errorCode())) {
+                    recordDailyLimitRejection(TransactionType.TRANSFER_OUT);
+                }
+            }
+        }
+    }
+
+    public <T> T timeLockWait(String scope, Supplier<T> lockAcquisition) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return lockAcquisition.get();
+        } finally {
+            sample.stop(Timer.builder("wirebarley.account.lock.wait")
+                    .description("Time to acquire account row locks")
+                    .tag("scope", scope)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordRetry(String operation, Throwable conflict) {
+        meterRegistry.counter("wirebarley.transaction.retries",
+                "operation", operation, "exception", conflict.getClass().getSimpleName()).increment();
+    }
+
+    public void recordRetryExhausted(String operation) {
+        meterRegistry.counter("wirebarley.transaction.retries.exhausted", "operation", operation).increment();
+    }
+
+    public static ErrorCode errorCodeOf(Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return businessException.getErrorCode();
+        }
+        if (e instanceof ConcurrencyFailureException || e instanceof OptimisticLockException
+                || e instanceof PessimisticLockException || e instanceof LockTimeoutException) {
+            return ErrorCode.CONCURRENT_UPDATE;
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private void recordTransfer(TransferResponse transfer) {
+        recordMovement(TransactionType.TRANSFER_OUT, transfer.transferAmount());
+        feeTotal.increment(transfer.fee().doubleValue());
+    }
+
+    private void recordMovement(TransactionType type, BigDecimal amount) {
+        DistributionSummary.builder("wirebarley.transaction.amount")
+                .description("Amounts moved per transaction type")
+                .baseUnit("won")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(amount.doubleValue());
+    }
+
+    private void recordDailyLimitRejection(TransactionType type) {
+        meterRegistry.counter("wirebarley.daily.limit.rejections", "type", type.name()).increment();
+    }
+}
@@ -0,0 +1,38 @@
+package com.wire.wirebarley.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public {@code TransactionService} operation (including the ledger engine variant). Ordered outside
+ * the transaction advice so that, when the service starts the transaction, the measured time includes the commit
+ * and amounts are recorded only after the operation has committed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TransactionMetricsAspect {
+
+    private final TransactionMetrics transactionMetrics;
+
+    @Around("execution(public * com.wire.wirebarley.service.TransactionService+.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            transactionMetrics.recordOperation(operation, System.nanoTime() - start, null);
+            transactionMetrics.recordResult(result);
+            return result;
+        } catch (Throwable e) {
+            transactionMetrics.recordOperation(operation, System.nanoTime() - start, TransactionMetrics.errorCodeOf(e));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.wire.wirebarley.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of newline-terminated records in memory-mapped segment files, addressed by a record offset
+ * that starts at 0 and never repeats within the log's epoch. Each segment is preallocated at {@code segment-size} and named after the
+ * offset of its first record; unused space is zero-filled, so a segment is a plain NDJSON file followed by zeros
+ * and the end of the log is found again on startup by scanning for the first zero byte.
+ *
+ * <p>There is one writer (the {@link OutboxRelay}); appends are forced to disk before they are acknowledged.
+ * A batch is staged past the published end and published as a whole (size, count and end offset) only after it
+ * has been forced; if any part of it fails, the staged bytes are zeroed again and segments it rolled into are
+ * removed, so a failed batch leaves neither records nor an offset gap behind.
+ * Readers take no lock: they read the published record count first and then only bytes written before it.
+ * A sparse in-memory index (every {@value #INDEX_INTERVAL}th record) bounds the scan for a given offset.
+ *
+ * <p>With no {@code directory} configured the log lives in a fresh temporary directory, like the in-memory
+ * database it is fed from. The epoch, a random id kept in the directory next to the segments, tells consumers
+ * which log an offset belongs to: a log that starts over at offset 0 (every restart with the temporary
+ * directory, or a wiped one) gets a new epoch, so an offset saved from the old log is rejected instead of
+ * silently pointing at different records.
+ */
+@Slf4j
+@Component
+public class EventLog {
+
+    static final int INDEX_INTERVAL = 64;
+    private static final byte RECORD_END = '\n';
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String EPOCH_FILE = "epoch";
+
+    @FunctionalInterface
+    public interface RecordEncoder<T> {
+
+        /**
+         * Encodes one item as a single line (without the terminating newline) for the given offset.
+         */
+        byte[] encode(long offset, T item);
+    }
+
+    /**
+     * Raw NDJSON of the records in [offset, nextOffset).
+     */
+    public record Slice(byte[] records, int count, long nextOffset) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final String epoch;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition appended = appendLock.newCondition();
+    private volatile Segment active;
+    private volatile long endOffset;
+
+    public EventLog(@Value("${wirebarley.event-log.directory:}") String directory,
+                    @Value("${wirebarley.event-log.segment-size:64MB}") DataSize segmentSize) throws IOException {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must not exceed 2GB: " + segmentSize);
+        }
+        this.directory = directory.isBlank()
+                ? Files.createTempDirectory("wirebarley-event-log")
+                : Files.createDirectories(Path.of(directory));
+        this.segmentSize = (int) segmentSize.toBytes();
+        recover();
+        this.epoch = loadEpoch();
+        log.info("Event log opened: directory={}, epoch={}, segments={}, endOffset={}",
+                this.directory, epoch, segments.size(), endOffset);
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long baseOffset = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(baseOffset, Segment.open(file, baseOffset, (int) Math.max(Files.size(file), segmentSize)));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, Segment.open(segmentPath(0), 0, segmentSize));
+        }
+        active = segments.lastEntry().getValue();
+        endOffset = active.baseOffset + active.count;
+    }
+
+    // An empty log has no offsets anyone could hold yet, so it always starts a new epoch
+    private String loadEpoch() throws IOException {
+        Path file = directory.resolve(EPOCH_FILE);
+        if (endOffset > 0 && Files.exists(file)) {
+            String stored = Files.readString(file).strip();
+            if (!stored.isEmpty()) {
+                return stored;
+            }
+        }
+        String created = UUID.randomUUID().toString();
+        Files.writeString(file, created, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        return created;
+    }
+
+    /**
+     * Identifies this log; offsets are only meaningful together with the epoch they were read under.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Offset the next appended record will get.
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Appends the items in order, forces them to disk and returns the offset after the last one.
+     */
+    public <T> long append(List<T> items, RecordEncoder<T> encoder) {
+        appendLock.lock();
+        try {
+            Segment first = active;
+            List<Segment> rolled = new ArrayList<>();
+            long offset = endOffset;
+            try {
+                for (T item : items) {
+                    byte[] line = encoder.encode(offset, item);
+                    byte[] record = Arrays.copyOf(line, line.length + 1);
+                    record[line.length] = RECORD_END;
+                    if (!active.fits(record.length)) {
+                        active = roll(offset, record.length);
+                        rolled.add(active);
+                    }
+                    active.write(record);
+                    offset++;
+                }
+                first.buffer.force();
+                rolled.forEach(segment -> segment.buffer.force());
+            } catch (RuntimeException e) {
+                discard(first, rolled);
+                throw e;
+            }
+
+            first.publish();
+            rolled.forEach(Segment::publish);
+            endOffset = offset;
+            appended.signalAll();
+            return offset;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private Segment roll(long baseOffset, int recordLength) {
+        if (recordLength > segmentSize - 1) {
+            throw new IllegalArgumentException("Record of " + recordLength + " bytes exceeds the segment size");
+        }
+        try {
+            Segment next = Segment.open(segmentPath(baseOffset), baseOffset, segmentSize);
+            segments.put(baseOffset, next);
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Event log segment cannot be created", e);
+        }
+    }
+
+    // Undoes an unpublished batch: readers never saw any of it
+    private void discard(Segment first, List<Segment> rolled) {
+        first.discardStaged();
+        for (Segment segment : rolled) {
+            segments.remove(segment.baseOffset);
+            segment.delete();
+        }
+        active = first;
+        log.warn("Event log batch discarded at offset {}", endOffset);
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records from {@code offset}, stopping at the end of a segment. Returns an
+     * empty slice at the end of the log.
+     */
+    public Slice read(long offset, int maxRecords) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null || offset > endOffset) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+        return entry.getValue().read(offset, maxRecords);
+    }
+
+    /**
+     * Waits until a record exists at {@code offset} or the timeout elapses; returns whether one exists.
+     */
+    public boolean awaitRecords(long offset, Duration timeout) throws InterruptedException {
+        if (offset < endOffset) {
+            return true;
+        }
+        long nanos = timeout.toNanos();
+        appendLock.lock();
+        try {
+            while (offset >= endOffset) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private static final class Segment {
+
+        private final long baseOffset;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final Path path;
+        // Position of every INDEX_INTERVAL-th record, written before the count that publishes it
+        private volatile int[] index = new int[16];
+        // Published: readers only look at records below count
+        private volatile int size;
+        private volatile int count;
+        // Staged by the writer (under the append lock), not yet visible to readers
+        private int stagedSize;
+        private int stagedCount;
+
+        private Segment(Path path, long baseOffset, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        static Segment open(Path path, long baseOffset, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(path, baseOffset, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+            segment.scan();
+            return segment;
+        }
+
+        // Rebuilds size, count and index from the records already in the file
+        private void scan() {
+            int position = 0;
+            int records = 0;
+            int recordStart = 0;
+            while (position < capacity) {
+                byte b = buffer.get(position);
+                if (b == 0) {
+                    break;
+                }
+                position++;
+                if (b == RECORD_END) {
+                    indexRecord(records, recordStart);
+                    records++;
+                    recordStart = position;
+                }
+            }
+            // A record cut short by a crash (no newline yet) is dropped and overwritten by the next append
+            buffer.put(recordStart, new byte[position - recordStart]);
+            stagedSize = size = recordStart;
+            stagedCount = count = records;
+        }
+
+        boolean fits(int recordLength) {
+            // Keep one zero byte after the last record as the end marker
+            return stagedSize + recordLength < capacity;
+        }
+
+        void write(byte[] record) {
+            indexRecord(stagedCount, stagedSize);
+            buffer.put(stagedSize, record);
+            stagedSize += record.length;
+            stagedCount++;
+        }
+
+        void publish() {
+            size = stagedSize;
+            count = stagedCount;
+        }
+
+        // Zeroes the staged bytes so the end marker is back after the last published record
+        void discardStaged() {
+            buffer.put(size, new byte[stagedSize - size]);
+            stagedSize = size;
+            stagedCount = count;
+            try {
+                buffer.force();
+            } catch (UncheckedIOException e) {
+                log.warn("Event log segment {} could not force the discarded batch", baseOffset, e);
+            }
+        }
+
+        private void indexRecord(int record, int position) {
+            if (record % INDEX_INTERVAL != 0) {
+                return;
+            }
+            int slot = record / INDEX_INTERVAL;
+            int[] current = index;
+            if (slot == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[slot] = position;
+            index = current;
+        }
+
+        Slice read(long offset, int maxRecords) {
+            int published = count;
+            int first = (int) (offset - baseOffset);
+            int records = Math.min(maxRecords, published - first);
+            if (records <= 0) {
+                return new Slice(new byte[0], 0, offset);
+            }
+            int start = skip(index[first / INDEX_INTERVAL], first % INDEX_INTERVAL);
+            int end = skip(start, records);
+            byte[] data = new byte[end - start];
+            buffer.get(start, data);
+            return new Slice(data, records, offset + records);
+        }
+
+        // Position after the given number of records starting at position
+        private int skip(int position, int records) {
+            while (records > 0) {
+                if (buffer.get(position++) == RECORD_END) {
+                    records--;
+                }
+            }
+            return position;
+        }
+
+        void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Event log segment {} was not closed cleanly", baseOffset, e);
+            }
+        }
+
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Event log segment {} was not deleted", baseOffset, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.wire.wirebarley.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.OutboxEvent;
+import com.wire.wirebarley.dto.TransactionEvent;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains {@code outbox_events} into the {@link EventLog} in batches, oldest first. A batch is appended (and
+ * forced to disk) and then deleted in one database transaction inside the bulkhead, so an event is never lost;
+ * if the delete does not commit the batch is appended again on the next run, hence at-least-once delivery.
+ *
+ * <p>The log is local to this instance, so the relay assumes a single application instance, like the ledger
+ * engine.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventLog eventLog;
+    private final ObjectMapper objectMapper;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "outbox-relay"));
+    private final ReentrantLock running = new ReentrantLock();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       EventLog eventLog,
+                       ObjectMapper objectMapper,
+                       DatabaseBulkhead databaseBulkhead,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${wirebarley.outbox.batch-size:500}") int batchSize,
+                       @Value("${wirebarley.outbox.poll-interval:200ms}") Duration pollInterval) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventLog = eventLog;
+        this.objectMapper = objectMapper;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::run, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * Moves every committed outbox event to the event log and returns the number of events relayed.
+     */
+    public int relay() {
+        running.lock();
+        try {
+            int relayed = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                int batch = databaseBulkhead.execute(() -> transactionTemplate.execute(status -> relayBatch()));
+                relayed += batch;
+                if (batch < batchSize) {
+                    break;
+                }
+            }
+            if (relayed > 0) {
+                log.debug("Outbox events relayed: events={}, endOffset={}", relayed, eventLog.endOffset());
+            }
+            return relayed;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findOldest(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        eventLog.append(events, this::encode);
+        outboxEventRepository.deleteByIdIn(events.stream().map(OutboxEvent::getId).toList());
+        return events.size();
+    }
+
+    private byte[] encode(long offset, OutboxEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(new TransactionEvent(offset, event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event cannot be serialized: " + event.getId(), e);
+        }
+    }
+}
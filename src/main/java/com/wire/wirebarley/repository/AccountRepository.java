@@ -1,13 +1,18 @@
 package com.wire.wirebarley.repository;
 
 import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,5 +24,50 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Account> findByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
 
+    // Append-only ledger credits: blocks a delete until the credit commits, but not other credits
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberWithSharedLock(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.accountNumber")
+    List<Account> findAllByAccountNumberInWithLock(@Param("accountNumbers") Collection<String> accountNumbers);
+
     boolean existsByAccountNumber(String accountNumber);
-}
\ No newline at end of file
+
+    // Bulk import: one set-based existence check per chunk
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Query("SELECT COALESCE(MIN(a.snapshotTransactionId), 0) FROM Account a")
+    long findMinSnapshotTransactionId();
+
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = :balance, a.version = a.version + 1, a.updatedAt = LOCAL DATETIME " +
+            "WHERE a.accountNumber = :accountNumber")
+    int updateBalance(@Param("accountNumber") String accountNumber, @Param("balance") Money balance);
+
+    // H2 data change delta table: the UPDATE and the read of the new balance happen in one statement,
+    // with no SELECT ... FOR UPDATE and no entity load
+    @Query(value = "SELECT id, balance FROM FINAL TABLE (UPDATE accounts SET balance = balance + :amount, " +
+            "version = version + 1, updated_at = LOCALTIMESTAMP WHERE account_number = :accountNumber)",
+            nativeQuery = true)
+    Optional<BalanceUpdate> depositAndGetBalance(@Param("accountNumber") String accountNumber,
+                                                 @Param("amount") BigDecimal amount);
+
+    // Same as above, guarded so the balance can never go negative; empty when missing or insufficient
+    @Query(value = "SELECT id, balance FROM FINAL TABLE (UPDATE accounts SET balance = balance - :amount, " +
+            "version = version + 1, updated_at = LOCALTIMESTAMP " +
+            "WHERE account_number = :accountNumber AND balance >= :amount)",
+            nativeQuery = true)
+    Optional<BalanceUpdate> withdrawAndGetBalance(@Param("accountNumber") String accountNumber,
+                                                  @Param("amount") BigDecimal amount);
+
+    // The updated row's id comes back with the balance so a stale managed copy can be found by primary key
+    interface BalanceUpdate {
+
+        Long getId();
+
+        BigDecimal getBalance();
+    }
+}
@@ -0,0 +1,79 @@
+package com.wire.wirebarley.repository;
+
+import com.wire.wirebarley.domain.ArchivedTransaction;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.TransactionResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransaction, Long> {
+
+    // Same projection as the hot table's read path
+    String SELECT_RESPONSE = "SELECT new com.wire.wirebarley.dto.TransactionResponse(" +
+            "a.id, a.accountNumber, a.type, a.amount, a.balanceAfter, a.targetAccountNumber, a.fee, " +
+            "a.description, a.createdAt) FROM ArchivedTransaction a ";
+
+    @Query(SELECT_RESPONSE + "WHERE a.accountNumber = :accountNumber " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findLatestByAccountNumber(@Param("accountNumber") String accountNumber,
+                                                        Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE a.accountNumber = :accountNumber " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findByAccountNumberBefore(@Param("accountNumber") String accountNumber,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE a.accountNumber = :accountNumber AND a.createdAt >= :from " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findStatementPage(@Param("accountNumber") String accountNumber,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "WHERE a.accountNumber = :accountNumber AND a.type = :type " +
+            "AND a.createdAt >= :from " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<TransactionResponse> findStatementPageByType(@Param("accountNumber") String accountNumber,
+                                                      @Param("type") TransactionType type,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE a.accountNumber = :accountNumber " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<TransactionResponse> streamByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // Null while the archive is empty
+    @Query("SELECT MAX(a.createdAt) FROM ArchivedTransaction a")
+    LocalDateTime findNewestCreatedAt();
+
+    // Copies hot rows as they are (same ids); the caller deletes them from the hot table in the same transaction
+    @Modifying
+    @Query(value = "INSERT INTO transactions_archive (id, account_number, type, amount, balance_after, " +
+            "target_account_number, fee, created_at, description) " +
+            "SELECT id, account_number, type, amount, balance_after, target_account_number, fee, created_at, " +
+            "description FROM transactions WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromHot(@Param("ids") Collection<Long> ids);
+}
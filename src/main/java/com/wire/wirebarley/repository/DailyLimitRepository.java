@@ -4,21 +4,83 @@ import com.wire.wirebarley.domain.DailyLimit;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DailyLimitRepository extends JpaRepository<DailyLimit, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT d FROM DailyLimit d WHERE d.accountNumber = :accountNumber AND d.transactionDate = :date")
-    Optional<DailyLimit> findByAccountNumberAndTransactionDateWithLock(
-            @Param("accountNumber") String accountNumber,
+    @Query("SELECT d FROM DailyLimit d WHERE d.accountNumber IN :accountNumbers AND d.transactionDate = :date " +
+            "ORDER BY d.accountNumber")
+    List<DailyLimit> findAllByAccountNumberInAndTransactionDateWithLock(
+            @Param("accountNumbers") Collection<String> accountNumbers,
             @Param("date") LocalDate date);
 
     Optional<DailyLimit> findByAccountNumberAndTransactionDate(String accountNumber, LocalDate transactionDate);
-}
\ No newline at end of file
+
+    // Atomic "increment if under limit": the first operation of the day inserts the row, later ones add to it,
+    // and either branch is skipped when the new total would exceed the limit. Returns 1 if the amount was
+    // counted, 0 if the limit refused it. Inserted ids come straight from the sequence; that value is the top of
+    // a block Hibernate's pooled optimizer never hands out, so the two cannot collide.
+    @Modifying
+    @Query(value = "MERGE INTO daily_limits d " +
+            "USING (VALUES (CAST(:accountNumber AS VARCHAR(20)), CAST(:date AS DATE), " +
+            "CAST(:amount AS DECIMAL(19, 2)), CAST(:limit AS DECIMAL(19, 2)))) " +
+            "s (account_number, transaction_date, amount, daily_limit) " +
+            "ON d.account_number = s.account_number AND d.transaction_date = s.transaction_date " +
+            "WHEN MATCHED AND d.withdrawal_amount + s.amount <= s.daily_limit THEN " +
+            "UPDATE SET withdrawal_amount = d.withdrawal_amount + s.amount " +
+            "WHEN NOT MATCHED AND s.amount <= s.daily_limit THEN " +
+            "INSERT (id, account_number, transaction_date, withdrawal_amount, transfer_amount) " +
+            "VALUES (NEXT VALUE FOR daily_limits_seq, s.account_number, s.transaction_date, s.amount, 0)",
+            nativeQuery = true)
+    int addWithdrawalAmountWithinLimit(@Param("accountNumber") String accountNumber,
+                                       @Param("date") LocalDate date,
+                                       @Param("amount") BigDecimal amount,
+                                       @Param("limit") BigDecimal limit);
+
+    @Modifying
+    @Query(value = "MERGE INTO daily_limits d " +
+            "USING (VALUES (CAST(:accountNumber AS VARCHAR(20)), CAST(:date AS DATE), " +
+            "CAST(:amount AS DECIMAL(19, 2)), CAST(:limit AS DECIMAL(19, 2)))) " +
+            "s (account_number, transaction_date, amount, daily_limit) " +
+            "ON d.account_number = s.account_number AND d.transaction_date = s.transaction_date " +
+            "WHEN MATCHED AND d.transfer_amount + s.amount <= s.daily_limit THEN " +
+            "UPDATE SET transfer_amount = d.transfer_amount + s.amount " +
+            "WHEN NOT MATCHED AND s.amount <= s.daily_limit THEN " +
+            "INSERT (id, account_number, transaction_date, withdrawal_amount, transfer_amount) " +
+            "VALUES (NEXT VALUE FOR daily_limits_seq, s.account_number, s.transaction_date, 0, s.amount)",
+            nativeQuery = true)
+    int addTransferAmountWithinLimit(@Param("accountNumber") String accountNumber,
+                                     @Param("date") LocalDate date,
+                                     @Param("amount") BigDecimal amount,
+                                     @Param("limit") BigDecimal limit);
+
+    // Unconditional upsert used where the limit was already enforced elsewhere (ledger engine journal)
+    @Modifying
+    @Query(value = "MERGE INTO daily_limits d " +
+            "USING (VALUES (CAST(:accountNumber AS VARCHAR(20)), CAST(:date AS DATE), " +
+            "CAST(:withdrawalAmount AS DECIMAL(19, 2)), CAST(:transferAmount AS DECIMAL(19, 2)))) " +
+            "s (account_number, transaction_date, withdrawal_amount, transfer_amount) " +
+            "ON d.account_number = s.account_number AND d.transaction_date = s.transaction_date " +
+            "WHEN MATCHED THEN " +
+            "UPDATE SET withdrawal_amount = d.withdrawal_amount + s.withdrawal_amount, " +
+            "transfer_amount = d.transfer_amount + s.transfer_amount " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, account_number, transaction_date, withdrawal_amount, transfer_amount) " +
+            "VALUES (NEXT VALUE FOR daily_limits_seq, s.account_number, s.transaction_date, s.withdrawal_amount, s.transfer_amount)",
+            nativeQuery = true)
+    int addAmounts(@Param("accountNumber") String accountNumber,
+                   @Param("date") LocalDate date,
+                   @Param("withdrawalAmount") BigDecimal withdrawalAmount,
+                   @Param("transferAmount") BigDecimal transferAmount);
+}
@@ -0,0 +1,60 @@
+package com.wire.wirebarley.repository;
+
+import com.wire.wirebarley.domain.DailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailySummaryRepository extends JpaRepository<DailySummary, Long> {
+
+    @Query("SELECT s FROM DailySummary s WHERE s.accountNumber = :accountNumber " +
+            "AND s.summaryDate BETWEEN :from AND :to ORDER BY s.summaryDate, s.type")
+    List<DailySummary> findByAccountNumberAndSummaryDateBetween(@Param("accountNumber") String accountNumber,
+                                                                @Param("from") LocalDate from,
+                                                                @Param("to") LocalDate to);
+
+    // Adds freshly inserted ledger rows to their (account, day, type) totals in the inserting transaction. The
+    // pending inserts are flushed first so the grouped SELECT sees them. Ids come straight from the sequence, as
+    // in the daily_limits upserts.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO daily_summaries s " +
+            "USING (SELECT account_number, CAST(created_at AS DATE) AS summary_date, type, " +
+            "COUNT(*) AS entry_count, SUM(amount) AS amount, COALESCE(SUM(fee), 0) AS fee " +
+            "FROM transactions WHERE id IN (:ids) " +
+            "GROUP BY account_number, CAST(created_at AS DATE), type) t " +
+            "ON s.account_number = t.account_number AND s.summary_date = t.summary_date AND s.type = t.type " +
+            "WHEN MATCHED THEN " +
+            "UPDATE SET entry_count = s.entry_count + t.entry_count, amount = s.amount + t.amount, fee = s.fee + t.fee " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, account_number, summary_date, type, entry_count, amount, fee) " +
+            "VALUES (NEXT VALUE FOR daily_summaries_seq, t.account_number, t.summary_date, t.type, " +
+            "t.entry_count, t.amount, t.fee)",
+            nativeQuery = true)
+    int addEntries(@Param("ids") Collection<Long> ids);
+
+    // Append-only ledger: adds one account's entries in (afterId, upToId] when the snapshot job folds them
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO daily_summaries s " +
+            "USING (SELECT account_number, CAST(created_at AS DATE) AS summary_date, type, " +
+            "COUNT(*) AS entry_count, SUM(amount) AS amount, COALESCE(SUM(fee), 0) AS fee " +
+            "FROM transactions WHERE account_number = :accountNumber AND id > :afterId AND id <= :upToId " +
+            "GROUP BY account_number, CAST(created_at AS DATE), type) t " +
+            "ON s.account_number = t.account_number AND s.summary_date = t.summary_date AND s.type = t.type " +
+            "WHEN MATCHED THEN " +
+            "UPDATE SET entry_count = s.entry_count + t.entry_count, amount = s.amount + t.amount, fee = s.fee + t.fee " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, account_number, summary_date, type, entry_count, amount, fee) " +
+            "VALUES (NEXT VALUE FOR daily_summaries_seq, t.account_number, t.summary_date, t.type, " +
+            "t.entry_count, t.amount, t.fee)",
+            nativeQuery = true)
+    int addEntriesBetween(@Param("accountNumber") String accountNumber,
+                          @Param("afterId") long afterId,
+                          @Param("upToId") long upToId);
+}
@@ -0,0 +1,14 @@
+package com.wire.wirebarley.repository;
+
+import com.wire.wirebarley.domain.IdempotencyRecord;
+import com.wire.wirebarley.domain.IdempotentOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByOperationAndIdempotencyKey(IdempotentOperation operation, String idempotencyKey);
+}
@@ -0,0 +1,33 @@
+package com.wire.wirebarley.repository;
+
+import com.wire.wirebarley.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Copies freshly inserted ledger rows into the outbox in the inserting transaction. The pending inserts are
+    // flushed first so the SELECT sees them, as in the daily summary upserts.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO outbox_events (id, transaction_id, account_number, type, amount, balance_after, " +
+            "target_account_number, fee, description, created_at) " +
+            "SELECT NEXT VALUE FOR outbox_events_seq, id, account_number, type, amount, balance_after, " +
+            "target_account_number, fee, description, created_at FROM transactions WHERE id IN (:ids) ORDER BY id",
+            nativeQuery = true)
+    int addEvents(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e FROM OutboxEvent e ORDER BY e.id")
+    List<OutboxEvent> findOldest(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,21 +1,99 @@
 package com.wire.wirebarley.repository;
 
 import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.TransactionResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    @Query("SELECT t FROM Transaction t WHERE t.accountNumber = :accountNumber ORDER BY t.createdAt DESC")
-    List<Transaction> findByAccountNumberOrderByCreatedAtDesc(@Param("accountNumber") String accountNumber);
+    // Read path: rows are projected straight into response records, so no entities are hydrated, tracked for
+    // dirty checking or kept in the persistence context
+    String SELECT_RESPONSE = "SELECT new com.wire.wirebarley.dto.TransactionResponse(" +
+            "t.id, t.accountNumber, t.type, t.amount, t.balanceAfter, t.targetAccountNumber, t.fee, " +
+            "t.description, t.createdAt) FROM Transaction t ";
+
+    @Query(SELECT_RESPONSE + "WHERE t.accountNumber = :accountNumber ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findLatestByAccountNumber(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    // Keyset (seek) pagination: continues strictly after the given (createdAt, id) without OFFSET or COUNT
+    @Query(SELECT_RESPONSE + "WHERE t.accountNumber = :accountNumber " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findByAccountNumberBefore(@Param("accountNumber") String accountNumber,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // Statement: createdAt in [from, cursor) newest first, one range scan on idx_account_created_id. The caller
+    // keeps the cursor below the statement's `to`
+    @Query(SELECT_RESPONSE + "WHERE t.accountNumber = :accountNumber AND t.createdAt >= :from " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findStatementPage(@Param("accountNumber") String accountNumber,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // Same with a type filter, one range scan on idx_account_type_created_id
+    @Query(SELECT_RESPONSE + "WHERE t.accountNumber = :accountNumber AND t.type = :type " +
+            "AND t.createdAt >= :from " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionResponse> findStatementPageByType(@Param("accountNumber") String accountNumber,
+                                                      @Param("type") TransactionType type,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
 
     @Query("SELECT t FROM Transaction t WHERE t.accountNumber = :accountNumber ORDER BY t.createdAt DESC")
     Page<Transaction> findByAccountNumberOrderByCreatedAtDesc(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    // Forward-only cursor for exports with a bounded fetch size; projected rows never enter the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE t.accountNumber = :accountNumber ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TransactionResponse> streamByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // Append-only ledger: net balance change (credits minus debits and fees) of the entries in (afterId, upToId]
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type IN (com.wire.wirebarley.domain.TransactionType.DEPOSIT, " +
+            "com.wire.wirebarley.domain.TransactionType.TRANSFER_IN) THEN t.amount " +
+            "ELSE -(t.amount + COALESCE(t.fee, 0)) END), 0) " +
+            "FROM Transaction t WHERE t.accountNumber = :accountNumber AND t.id > :afterId AND t.id <= :upToId")
+    BigDecimal sumBalanceChange(@Param("accountNumber") String accountNumber,
+                                @Param("afterId") long afterId,
+                                @Param("upToId") long upToId);
+
+    @Query("SELECT DISTINCT t.accountNumber FROM Transaction t WHERE t.id > :afterId AND t.id <= :upToId")
+    List<String> findAccountNumbersWithEntriesBetween(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Transaction t")
+    long findMaxId();
+
+    // Archive candidates: oldest ids first, bounded by age and (in append-only ledger mode) by the snapshot
+    @Query("SELECT t.id FROM Transaction t WHERE t.createdAt < :cutoff AND t.id <= :maxId ORDER BY t.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff,
+                                 @Param("maxId") long maxId,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.wire.wirebarley.repository;
+
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransferIntentRepository extends JpaRepository<TransferIntent, Long> {
+
+    // The oldest pending intent of each source, if it is due, oldest first: a source's later intents wait behind
+    // it, so one source with a long backlog cannot fill the page
+    @Query("SELECT t FROM TransferIntent t WHERE t.status = :status " +
+            "AND (t.nextAttemptAt IS NULL OR t.nextAttemptAt <= :now) " +
+            "AND t.id IN (SELECT MIN(h.id) FROM TransferIntent h WHERE h.status = :status " +
+            "GROUP BY h.sourceAccountNumber) " +
+            "ORDER BY t.id")
+    List<TransferIntent> findDueHeadsByStatus(@Param("status") TransferIntentStatus status,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TransferIntent t WHERE t.id = :id")
+    Optional<TransferIntent> findByIdWithLock(@Param("id") Long id);
+}
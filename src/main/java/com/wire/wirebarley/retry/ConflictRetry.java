@@ -0,0 +1,87 @@
+package com.wire.wirebarley.retry;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retries an action that failed on a lock conflict, with exponential backoff and full jitter (a random delay
+ * between zero and the exponential cap) so that colliding requests spread out instead of retrying in lockstep.
+ * When the attempts are used up the failure surfaces as {@link ErrorCode#CONCURRENT_UPDATE}.
+ *
+ * <p>The action must start its own transaction: retrying inside a transaction that already failed cannot succeed.
+ */
+@Slf4j
+@Component
+public class ConflictRetry {
+
+    private final TransactionMetrics transactionMetrics;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public ConflictRetry(TransactionMetrics transactionMetrics,
+                         @Value("${wirebarley.retry.max-attempts:3}") int maxAttempts,
+                         @Value("${wirebarley.retry.initial-backoff:20ms}") Duration initialBackoff,
+                         @Value("${wirebarley.retry.max-backoff:200ms}") Duration maxBackoff) {
+        this.transactionMetrics = transactionMetrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    log.warn("Retries exhausted: operation={}, attempts={}, cause={}", operation, attempt, e.toString());
+                    transactionMetrics.recordRetryExhausted(operation);
+                    throw new BusinessException(ErrorCode.CONCURRENT_UPDATE, e);
+                }
+                transactionMetrics.recordRetry(operation, e);
+                log.debug("Retrying after lock conflict: operation={}, attempt={}", operation, attempt);
+                sleep(backoffMillis(attempt), e);
+            }
+        }
+    }
+
+    public static boolean isConflict(Throwable e) {
+        return e instanceof ConcurrencyFailureException
+                || e instanceof OptimisticLockException
+                || e instanceof PessimisticLockException
+                || e instanceof LockTimeoutException;
+    }
+
+    long backoffMillis(int attempt) {
+        long cap = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void sleep(long millis, RuntimeException conflict) {
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_UPDATE, conflict);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wire.wirebarley.retry;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Applies {@link ConflictRetry} to {@link RetryOnConflict} methods. Ordered inside the metrics aspect (which then
+ * times the whole retried call) and outside the transaction advice, so every attempt runs in a fresh transaction.
+ * A call that joins a caller's transaction is not retried here; the caller owns the retry.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ConflictRetryAspect {
+
+    private final ConflictRetry conflictRetry;
+
+    @Around("@annotation(com.wire.wirebarley.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return conflictRetry.execute(joinPoint.getSignature().getName(), () -> proceed(joinPoint));
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.wire.wirebarley.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated transactional method when it fails on a lock timeout, deadlock or optimistic lock
+ * conflict. See {@link ConflictRetry} for the backoff policy.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
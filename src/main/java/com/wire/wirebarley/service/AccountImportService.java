@@ -0,0 +1,202 @@
+package com.wire.wirebarley.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.AccountImportResult;
+import com.wire.wirebarley.dto.ImportFormat;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates accounts from a streamed CSV or NDJSON body. Lines are parsed and validated as they arrive and handled
+ * in chunks: one {@code IN} query finds the account numbers that already exist, and the new accounts are inserted
+ * in one transaction as a single JDBC batch (ids come from the pooled sequence). A result line is written for
+ * every input line as soon as its chunk has committed, so neither side holds the whole import in memory.
+ */
+@Slf4j
+@Service
+public class AccountImportService {
+
+    private static final String CSV_HEADER = "accountNumber";
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final AccountRepository accountRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final LedgerBalances ledgerBalances;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public AccountImportService(AccountRepository accountRepository,
+                                EntityManager entityManager,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                DatabaseBulkhead databaseBulkhead,
+                                LedgerBalances ledgerBalances,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${wirebarley.account-import.chunk-size:1000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(AccountCreateRequest.class);
+        this.resultWriter = objectMapper.writerFor(AccountImportResult.class);
+        this.databaseBulkhead = databaseBulkhead;
+        this.ledgerBalances = ledgerBalances;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public StreamingResponseBody importAccounts(InputStream body, ImportFormat format) {
+        return outputStream -> importAccounts(body, format, outputStream);
+    }
+
+    private void importAccounts(InputStream body, ImportFormat format, OutputStream outputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long created = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format == ImportFormat.CSV && isCsvHeader(line))) {
+                continue;
+            }
+            String accountNumber = parse(line, format);
+            chunk.add(new ImportLine(lineNumber, accountNumber, isValid(accountNumber)));
+            if (chunk.size() == chunkSize) {
+                created += importChunk(chunk, writer);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, writer);
+        }
+        writer.flush();
+
+        log.info("Account import completed: format={}, lines={}, created={}", format, lineNumber, created);
+    }
+
+    private boolean isCsvHeader(String line) {
+        return firstCsvColumn(line).equalsIgnoreCase(CSV_HEADER);
+    }
+
+    private String parse(String line, ImportFormat format) {
+        if (format == ImportFormat.CSV) {
+            return firstCsvColumn(line);
+        }
+        try {
+            AccountCreateRequest request = requestReader.readValue(line);
+            return request.accountNumber();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String firstCsvColumn(String line) {
+        int comma = line.indexOf(',');
+        String column = (comma < 0 ? line : line.substring(0, comma)).strip();
+        if (column.length() >= 2 && column.startsWith("\"") && column.endsWith("\"")) {
+            column = column.substring(1, column.length() - 1);
+        }
+        return column;
+    }
+
+    private long importChunk(List<ImportLine> chunk, Writer writer) throws IOException {
+        // First valid occurrence of each account number within the chunk is the one to create
+        Set<String> candidates = new LinkedHashSet<>();
+        for (ImportLine line : chunk) {
+            if (line.valid()) {
+                candidates.add(line.accountNumber());
+            }
+        }
+
+        Set<String> inserted = insertNew(candidates);
+
+        Set<String> reported = new HashSet<>();
+        for (ImportLine line : chunk) {
+            String accountNumber = line.accountNumber();
+            AccountImportResult result;
+            if (!line.valid()) {
+                result = AccountImportResult.failure(line.number(), accountNumber, ErrorCode.INVALID_ACCOUNT_NUMBER);
+            } else if (inserted.contains(accountNumber) && reported.add(accountNumber)) {
+                result = AccountImportResult.success(line.number(), accountNumber);
+            } else {
+                // Already in the database, or repeated within the import
+                result = AccountImportResult.failure(line.number(), accountNumber, ErrorCode.ACCOUNT_ALREADY_EXISTS);
+            }
+            writer.write(resultWriter.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+        return inserted.size();
+    }
+
+    private Set<String> insertNew(Set<String> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return databaseBulkhead.execute(() -> transactionTemplate.execute(status -> {
+                    Set<String> fresh = new LinkedHashSet<>(candidates);
+                    accountRepository.findExistingAccountNumbers(candidates).forEach(fresh::remove);
+
+                    // One JDBC batch for the whole chunk instead of the default batch size
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(Math.max(1, fresh.size()));
+                    long snapshotTransactionId = ledgerBalances.openingSnapshotTransactionId();
+                    accountRepository.saveAll(fresh.stream()
+                            .map(accountNumber -> new Account(accountNumber, snapshotTransactionId))
+                            .toList());
+                    return fresh;
+                }));
+            } catch (DataIntegrityViolationException e) {
+                // An account of this chunk was created concurrently; the existence check sees it on the retry
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean isValid(String accountNumber) {
+        return accountNumber != null && validator.validate(new AccountCreateRequest(accountNumber)).isEmpty();
+    }
+
+    private record ImportLine(long number, String accountNumber, boolean valid) {
+    }
+}
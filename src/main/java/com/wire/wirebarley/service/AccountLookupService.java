@@ -0,0 +1,103 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.config.CacheConfig;
+import com.wire.wirebarley.dto.AccountMetadata;
+import com.wire.wirebarley.event.AccountDeletedEvent;
+import com.wire.wirebarley.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cached existence checks and metadata lookups by account number. Only existing accounts are cached;
+ * a miss always goes to the database, so a newly created account is visible immediately.
+ *
+ * <p>A lookup caches what it read only once its transaction has committed, so a rolled back insert is never
+ * cached. Because that put lands later than the read, a delete that commits in between would be undone by it;
+ * every committed delete therefore bumps a generation, and a lookup whose read started in an older generation
+ * does not cache its result. The check and the put run under the same lock as the delete's eviction.
+ */
+@Slf4j
+@Service
+public class AccountLookupService {
+
+    private final AccountRepository accountRepository;
+    private final Cache cache;
+    private final ReentrantLock generationLock = new ReentrantLock();
+    private long generation;
+
+    public AccountLookupService(AccountRepository accountRepository, CacheManager cacheManager) {
+        this.accountRepository = accountRepository;
+        Cache managed = cacheManager.getCache(CacheConfig.ACCOUNT_METADATA);
+        // Puts are deferred here explicitly; the transaction-aware decorator would defer them without the check
+        this.cache = managed instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : managed;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<AccountMetadata> findMetadata(String accountNumber) {
+        AccountMetadata cached = cache.get(accountNumber, AccountMetadata.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long readGeneration = currentGeneration();
+        Optional<AccountMetadata> metadata = accountRepository.findByAccountNumber(accountNumber)
+                .map(AccountMetadata::new);
+        metadata.ifPresent(found -> putAfterCommit(found, readGeneration));
+        return metadata;
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        generationLock.lock();
+        try {
+            generation++;
+            cache.evict(event.accountNumber());
+        } finally {
+            generationLock.unlock();
+        }
+        log.debug("Account metadata evicted: {}", event.accountNumber());
+    }
+
+    private void putAfterCommit(AccountMetadata metadata, long readGeneration) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putIfCurrent(metadata, readGeneration);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putIfCurrent(metadata, readGeneration);
+            }
+        });
+    }
+
+    private void putIfCurrent(AccountMetadata metadata, long readGeneration) {
+        generationLock.lock();
+        try {
+            if (generation == readGeneration) {
+                cache.put(metadata.accountNumber(), metadata);
+            }
+        } finally {
+            generationLock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        generationLock.lock();
+        try {
+            return generation;
+        } finally {
+            generationLock.unlock();
+        }
+    }
+}
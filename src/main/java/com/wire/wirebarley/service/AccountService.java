@@ -3,28 +3,46 @@ package com.wire.wirebarley.service;
 import com.wire.wirebarley.domain.Account;
 import com.wire.wirebarley.dto.AccountCreateRequest;
 import com.wire.wirebarley.dto.AccountResponse;
+import com.wire.wirebarley.event.AccountDeletedEvent;
 import com.wire.wirebarley.exception.BusinessException;
 import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
 import com.wire.wirebarley.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
+    private static final int LOCK_CHUNK_SIZE = 1000;
+
     private final AccountRepository accountRepository;
+    private final AccountLookupService accountLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionMetrics transactionMetrics;
+    private final LedgerBalances ledgerBalances;
 
     @Transactional
     public AccountResponse createAccount(AccountCreateRequest request) {
-        if (accountRepository.existsByAccountNumber(request.accountNumber())) {
+        if (accountLookupService.findMetadata(request.accountNumber()).isPresent()) {
             throw new BusinessException(ErrorCode.ACCOUNT_ALREADY_EXISTS);
         }
 
-        Account account = new Account(request.accountNumber());
+        Account account = new Account(request.accountNumber(), ledgerBalances.openingSnapshotTransactionId());
         Account savedAccount = accountRepository.save(account);
 
         log.info("Account created: {}", savedAccount.getAccountNumber());
@@ -37,6 +55,7 @@ public class AccountService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
         accountRepository.delete(account);
+        eventPublisher.publishEvent(new AccountDeletedEvent(accountNumber));
         log.info("Account deleted: {}", accountNumber);
     }
 
@@ -45,7 +64,7 @@ public class AccountService {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        return new AccountResponse(account);
+        return new AccountResponse(account, ledgerBalances.balanceOf(account).toBigDecimal());
     }
 
     @Transactional(readOnly = true)
@@ -54,9 +73,104 @@ public class AccountService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
     }
 
+    /**
+     * Existence check served from the account metadata cache; use it where the entity itself is not needed.
+     */
+    public void verifyAccountExists(String accountNumber) {
+        if (accountLookupService.findMetadata(accountNumber).isEmpty()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+    }
+
     @Transactional
     public Account findAccountByAccountNumberWithLock(String accountNumber) {
-        return accountRepository.findByAccountNumberWithLock(accountNumber)
+        return transactionMetrics.timeLockWait("single",
+                        () -> accountRepository.findByAccountNumberWithLock(accountNumber))
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
     }
+
+    /**
+     * Takes a shared row lock so the account cannot be deleted before the caller's transaction ends. Shared locks
+     * do not block each other, so append-only ledger credits to a hot account still run side by side.
+     */
+    @Transactional
+    public void lockAccountForCredit(String accountNumber) {
+        transactionMetrics.timeLockWait("shared",
+                        () -> accountRepository.findByAccountNumberWithSharedLock(accountNumber))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * Adds to the balance with a single conditional UPDATE and returns the new balance.
+     * The row lock is held only for the remainder of the caller's transaction, never waited for up front.
+     */
+    @Transactional
+    public BigDecimal depositAtomically(String accountNumber, BigDecimal amount) {
+        validateAmount(amount);
+        AccountRepository.BalanceUpdate update = transactionMetrics.timeLockWait("atomic_update",
+                        () -> accountRepository.depositAndGetBalance(accountNumber, amount))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        detachStaleAccount(update.getId());
+        return update.getBalance();
+    }
+
+    /**
+     * Subtracts from the balance only if it covers the amount, in a single UPDATE, and returns the new balance.
+     */
+    @Transactional
+    public BigDecimal withdrawAtomically(String accountNumber, BigDecimal amount) {
+        validateAmount(amount);
+        AccountRepository.BalanceUpdate update = transactionMetrics.timeLockWait("atomic_update",
+                        () -> accountRepository.withdrawAndGetBalance(accountNumber, amount))
+                .orElseThrow(() -> accountRepository.existsByAccountNumber(accountNumber)
+                        ? new BusinessException(ErrorCode.INSUFFICIENT_BALANCE)
+                        : new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        detachStaleAccount(update.getId());
+        return update.getBalance();
+    }
+
+    /**
+     * Locks every given account exactly once. Accounts are locked in ascending account number order
+     * (chunk by chunk) so that concurrent batches cannot deadlock each other or single transfers.
+     * Missing accounts are simply absent from the returned map.
+     */
+    @Transactional
+    public Map<String, Account> findAccountsByAccountNumbersWithLock(SortedSet<String> accountNumbers) {
+        Map<String, Account> accounts = new HashMap<>();
+        List<String> chunk = new ArrayList<>(LOCK_CHUNK_SIZE);
+        for (String accountNumber : accountNumbers) {
+            chunk.add(accountNumber);
+            if (chunk.size() == LOCK_CHUNK_SIZE) {
+                lockChunk(chunk, accounts);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            lockChunk(chunk, accounts);
+        }
+        return accounts;
+    }
+
+    // The atomic UPDATEs bypass the persistence context (the native query flushes pending changes first), so the
+    // updated Account, if already managed in this transaction, would keep a stale balance and version. Only that
+    // entity is detached; clearing the whole context would also drop every other entity the caller still uses.
+    // getReference is a primary key lookup in the context: it returns the managed instance when there is one, and
+    // otherwise an uninitialized proxy (no query) that is detached again right away.
+    private void detachStaleAccount(Long id) {
+        entityManager.detach(entityManager.getReference(Account.class, id));
+    }
+
+    private void validateAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    private void lockChunk(List<String> chunk, Map<String, Account> accounts) {
+        List<Account> locked = transactionMetrics.timeLockWait("batch",
+                () -> accountRepository.findAllByAccountNumberInWithLock(chunk));
+        for (Account account : locked) {
+            accounts.put(account.getAccountNumber(), account);
+        }
+        chunk.clear();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.domain.DailySummary;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.AccountSummaryResponse;
+import com.wire.wirebarley.dto.SummaryBucketResponse;
+import com.wire.wirebarley.dto.SummaryPeriod;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads per-account totals from the daily summary rows, which are maintained as ledger rows are written. Cost
+ * depends on the number of days in the range, not on the number of transactions; monthly and yearly totals are
+ * folded from the daily rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountSummaryService {
+
+    private final AccountService accountService;
+    private final DailySummaryRepository dailySummaryRepository;
+
+    @Transactional(readOnly = true)
+    public AccountSummaryResponse getSummary(String accountNumber, String from, String to, SummaryPeriod period) {
+        accountService.verifyAccountExists(accountNumber);
+
+        LocalDate toDate = parseDate(to, LocalDate.now());
+        LocalDate fromDate = parseDate(from, toDate);
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException(ErrorCode.INVALID_SUMMARY_RANGE);
+        }
+
+        // Daily rows arrive ordered by (date, type), so buckets come out in the same order
+        Map<BucketKey, SummaryBucketResponse> buckets = new LinkedHashMap<>();
+        for (DailySummary day : dailySummaryRepository.findByAccountNumberAndSummaryDateBetween(
+                accountNumber, fromDate, toDate)) {
+            BucketKey key = new BucketKey(period.startOf(day.getSummaryDate()), day.getType());
+            buckets.merge(key,
+                    new SummaryBucketResponse(key.periodStart(), key.type(), day.getEntryCount(),
+                            day.getAmount(), day.getFee()),
+                    (sum, next) -> new SummaryBucketResponse(sum.periodStart(), sum.type(),
+                            sum.count() + next.count(), sum.amount().add(next.amount()), sum.fee().add(next.fee())));
+        }
+
+        return new AccountSummaryResponse(accountNumber, period, fromDate, toDate, new ArrayList<>(buckets.values()));
+    }
+
+    private LocalDate parseDate(String value, LocalDate defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_SUMMARY_RANGE);
+        }
+    }
+
+    private record BucketKey(LocalDate periodStart, TransactionType type) {
+    }
+}
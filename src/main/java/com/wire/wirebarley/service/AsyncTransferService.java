@@ -0,0 +1,162 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.async.CallbackUrlPolicy;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+import com.wire.wirebarley.dto.TransferIntentResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.event.TransferSubmittedEvent;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.TransferIntentRepository;
+import com.wire.wirebarley.retry.ConflictRetry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Accepts transfers for asynchronous execution and executes them on behalf of the {@code TransferIntentWorker}.
+ *
+ * <p>Submitting only stores a {@link TransferIntent}; no account is locked while the client waits. Executing an
+ * intent runs {@link TransactionService#transfer} and marks the intent completed in the same database transaction,
+ * so an intent is never completed without its transfer (or the other way round) and a crash before the commit
+ * leaves it pending for the next attempt.
+ *
+ * <p>Only failures known to happen before anything was written are retried: the intent stays pending and is
+ * deferred with a growing backoff, and fails once {@code max-attempts} executions have been deferred. Any other
+ * failure, including an unavailable ledger engine whose transfer may already have applied, fails the intent.
+ */
+@Slf4j
+@Service
+public class AsyncTransferService {
+
+    // Raised before the transfer wrote anything (rolled back conflict, no bulkhead permit), so running it again
+    // cannot apply it twice
+    private static final Set<ErrorCode> TRANSIENT_ERRORS =
+            EnumSet.of(ErrorCode.CONCURRENT_UPDATE, ErrorCode.SERVER_BUSY);
+
+    private final TransferIntentRepository transferIntentRepository;
+    private final TransactionService transactionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetry conflictRetry;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public AsyncTransferService(TransferIntentRepository transferIntentRepository,
+                                TransactionService transactionService,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                ConflictRetry conflictRetry,
+                                DatabaseBulkhead databaseBulkhead,
+                                CallbackUrlPolicy callbackUrlPolicy,
+                                @Value("${wirebarley.async-transfer.max-attempts:5}") int maxAttempts,
+                                @Value("${wirebarley.async-transfer.retry-backoff:1s}") Duration retryBackoff) {
+        this.transferIntentRepository = transferIntentRepository;
+        this.transactionService = transactionService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.conflictRetry = conflictRetry;
+        this.databaseBulkhead = databaseBulkhead;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Transactional
+    public TransferIntentResponse submit(TransferRequest request, String callbackUrl) {
+        if (request.sourceAccountNumber().equals(request.targetAccountNumber())) {
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+        }
+        if (callbackUrl != null) {
+            callbackUrlPolicy.validate(callbackUrl);
+        }
+
+        TransferIntent intent = transferIntentRepository.save(new TransferIntent(request, callbackUrl));
+        // Wakes the worker once the intent is committed
+        eventPublisher.publishEvent(new TransferSubmittedEvent(intent.getId()));
+
+        log.info("Transfer submitted: id={}, from={}, to={}, amount={}", intent.getId(),
+                request.sourceAccountNumber(), request.targetAccountNumber(), request.amount());
+        return new TransferIntentResponse(intent);
+    }
+
+    @Transactional(readOnly = true)
+    public TransferIntentResponse getTransfer(Long transferId) {
+        return transferIntentRepository.findById(transferId)
+                .map(TransferIntentResponse::new)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRANSFER_NOT_FOUND));
+    }
+
+    /**
+     * Executes a pending intent. Returns its final state, or empty if it is no longer pending (another worker
+     * finished it) or failed transiently and stays pending until its next attempt.
+     */
+    public Optional<TransferIntentResponse> execute(Long transferId) {
+        try {
+            // The transfer joins this transaction, so lock conflicts are retried here around the whole unit
+            return Optional.ofNullable(conflictRetry.execute("transfer_intent", () -> databaseBulkhead.execute(() ->
+                    transactionTemplate.execute(status -> transferIntentRepository.findByIdWithLock(transferId)
+                            .filter(intent -> intent.getStatus() == TransferIntentStatus.PENDING)
+                            .map(intent -> {
+                                intent.complete(transactionService.transfer(intent.toRequest()));
+                                return new TransferIntentResponse(intent);
+                            })
+                            .orElse(null)))));
+        } catch (BusinessException e) {
+            if (TRANSIENT_ERRORS.contains(e.getErrorCode())) {
+                return defer(transferId, e.getErrorCode());
+            }
+            return fail(transferId, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.error("Transfer failed unexpectedly: id={}", transferId, e);
+            return fail(transferId, ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Optional<TransferIntentResponse> defer(Long transferId, ErrorCode errorCode) {
+        return Optional.ofNullable(databaseBulkhead.execute(() ->
+                transactionTemplate.execute(status -> transferIntentRepository.findByIdWithLock(transferId)
+                        .filter(intent -> intent.getStatus() == TransferIntentStatus.PENDING)
+                        .map(intent -> {
+                            if (intent.getAttempts() + 1 >= maxAttempts) {
+                                log.info("Transfer rejected after {} attempts: id={}, error={}", maxAttempts,
+                                        transferId, errorCode.getCode());
+                                intent.fail(errorCode);
+                                return new TransferIntentResponse(intent);
+                            }
+                            // 1x, 2x, 4x ... the backoff
+                            Duration delay = retryBackoff.multipliedBy(1L << Math.min(intent.getAttempts(), 10));
+                            intent.defer(LocalDateTime.now().plus(delay));
+                            log.warn("Transfer deferred: id={}, attempt={}, retryIn={}, error={}", transferId,
+                                    intent.getAttempts(), delay, errorCode.getCode());
+                            return null;
+                        })
+                        .orElse(null))));
+    }
+
+    private Optional<TransferIntentResponse> fail(Long transferId, ErrorCode errorCode) {
+        log.info("Transfer rejected: id={}, error={}", transferId, errorCode.getCode());
+        return Optional.ofNullable(databaseBulkhead.execute(() ->
+                transactionTemplate.execute(status -> transferIntentRepository.findByIdWithLock(transferId)
+                        .filter(intent -> intent.getStatus() == TransferIntentStatus.PENDING)
+                        .map(intent -> {
+                            intent.fail(errorCode);
+                            return new TransferIntentResponse(intent);
+                        })
+                        .orElse(null))));
+    }
+}
@@ -0,0 +1,188 @@
+package com.wire.wirebarley.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.IdempotencyRecord;
+import com.wire.wirebarley.domain.IdempotentOperation;
+import com.wire.wirebarley.dto.IdempotentResult;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.IdempotencyRecordRepository;
+import com.wire.wirebarley.retry.ConflictRetry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Executes a money movement at most once per Idempotency-Key.
+ *
+ * <p>The key and the response are stored in the same database transaction as the movement itself, so either
+ * both commit or neither does. Completed responses are kept in a bounded in-memory cache in front of the table,
+ * and a duplicate that arrives while the first request is still running waits for that execution instead of
+ * starting its own. Replays therefore never reach the account locks.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetry conflictRetry;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final Cache<String, CompletedResponse> completedResponses;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              ConflictRetry conflictRetry,
+                              DatabaseBulkhead databaseBulkhead,
+                              @Value("${wirebarley.idempotency.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${wirebarley.idempotency.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.conflictRetry = conflictRetry;
+        this.databaseBulkhead = databaseBulkhead;
+        this.completedResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public <T> IdempotentResult<T> execute(String idempotencyKey, IdempotentOperation operation, Object request,
+                                           Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        String cacheKey = operation + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        CompletedResponse cached = completedResponses.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        InFlight execution = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(cacheKey, execution);
+        if (running != null) {
+            // Concurrent duplicate: share the running execution's outcome
+            if (!running.requestHash().equals(requestHash)) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return replay(await(running.response()), requestHash, responseType);
+        }
+
+        try {
+            CompletedResponse response = idempotencyRecordRepository
+                    .findByOperationAndIdempotencyKey(operation, idempotencyKey)
+                    .map(record -> toCompletedResponse(record, responseType))
+                    .orElseGet(() -> executeOnce(idempotencyKey, operation, requestHash, responseType, action));
+            completedResponses.put(cacheKey, response);
+            execution.response().complete(response);
+
+            if (response.replayed()) {
+                return replay(response, requestHash, responseType);
+            }
+            return new IdempotentResult<>(responseType.cast(response.body()), false);
+        } catch (RuntimeException e) {
+            execution.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, execution);
+        }
+    }
+
+    private <T> CompletedResponse executeOnce(String idempotencyKey, IdempotentOperation operation,
+                                              String requestHash, Class<T> responseType, Supplier<T> action) {
+        try {
+            // The movement joins this transaction, so lock conflicts are retried and the bulkhead permit is taken
+            // here around the whole unit (before the transaction borrows a connection)
+            T body = conflictRetry.execute(operation.name().toLowerCase(), () -> databaseBulkhead.execute(() ->
+                    transactionTemplate.execute(status -> {
+                        T result = action.get();
+                        idempotencyRecordRepository.save(
+                                new IdempotencyRecord(operation, idempotencyKey, requestHash, toJson(result)));
+                        return result;
+                    })));
+            return new CompletedResponse(requestHash, body, false);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored the same key first; our movement was rolled back with the duplicate insert
+            log.info("Idempotency key raced with another request: operation={}, key={}", operation, idempotencyKey);
+            IdempotencyRecord winner = idempotencyRecordRepository
+                    .findByOperationAndIdempotencyKey(operation, idempotencyKey)
+                    .orElseThrow(() -> e);
+            return toCompletedResponse(winner, responseType);
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(CompletedResponse response, String requestHash, Class<T> responseType) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return new IdempotentResult<>(responseType.cast(response.body()), true);
+    }
+
+    private CompletedResponse await(CompletableFuture<CompletedResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletedResponse toCompletedResponse(IdempotencyRecord record, Class<?> responseType) {
+        try {
+            Object body = objectMapper.readValue(record.getResponseBody(), responseType);
+            return new CompletedResponse(record.getRequestHash(), body, true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read: " + record.getId(), e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be serialized", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Request cannot be hashed", e);
+        }
+    }
+
+    // replayed: the response came from a stored record rather than from running the action in this call
+    private record CompletedResponse(String requestHash, Object body, boolean replayed) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<CompletedResponse> response) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current account balances. In append-only ledger mode {@code accounts.balance} is only a snapshot, so the
+ * entries appended after the snapshot are added to it; the tail is one index range scan on
+ * {@code (account_number, id)} and stays short because the snapshot job folds it in the background.
+ */
+@Component
+public class LedgerBalances {
+
+    private final TransactionRepository transactionRepository;
+    private final boolean appendOnly;
+
+    public LedgerBalances(TransactionRepository transactionRepository,
+                          @Value("${wirebarley.append-only-ledger.enabled:false}") boolean appendOnly) {
+        this.transactionRepository = transactionRepository;
+        this.appendOnly = appendOnly;
+    }
+
+    public Money balanceOf(Account account) {
+        if (!appendOnly) {
+            return account.getBalance();
+        }
+        return account.getBalance().plus(Money.of(transactionRepository.sumBalanceChange(
+                account.getAccountNumber(), account.getSnapshotTransactionId(), Long.MAX_VALUE)));
+    }
+
+    /**
+     * Snapshot id a new account starts from. In append-only mode this is the newest ledger id, so the entries of a
+     * deleted account with the same number stay out of the new account's balance. They have all committed: credits
+     * hold a shared lock on the account row, which the delete has to wait for.
+     */
+    public long openingSnapshotTransactionId() {
+        return appendOnly ? transactionRepository.findMaxId() : 0L;
+    }
+}
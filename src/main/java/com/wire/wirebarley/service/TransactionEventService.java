@@ -0,0 +1,56 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.outbox.EventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Consumer side of the event log: reads by offset, optionally long-polling at the end of the log. Reads never
+ * touch the database.
+ */
+@Service
+public class TransactionEventService {
+
+    private static final int MAX_EVENTS_PER_READ = 1000;
+
+    private final EventLog eventLog;
+    private final Duration maxWait;
+
+    public TransactionEventService(EventLog eventLog,
+                                   @Value("${wirebarley.event-log.max-wait:30s}") Duration maxWait) {
+        this.eventLog = eventLog;
+        this.maxWait = maxWait;
+    }
+
+    public String epoch() {
+        return eventLog.epoch();
+    }
+
+    /**
+     * @param epoch the epoch the consumer's offset was read under, or null when starting without one
+     */
+    public EventLog.Slice read(String epoch, long offset, int limit, long waitMillis) {
+        if (epoch != null && !epoch.equals(eventLog.epoch())) {
+            throw new BusinessException(ErrorCode.EVENT_LOG_EPOCH_MISMATCH);
+        }
+        if (offset < 0 || offset > eventLog.endOffset()) {
+            throw new BusinessException(ErrorCode.INVALID_EVENT_OFFSET);
+        }
+        int maxRecords = Math.max(1, Math.min(limit, MAX_EVENTS_PER_READ));
+
+        Duration wait = Duration.ofMillis(Math.max(0, waitMillis));
+        if (wait.compareTo(maxWait) > 0) {
+            wait = maxWait;
+        }
+        try {
+            eventLog.awaitRecords(offset, wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return eventLog.read(offset, maxRecords);
+    }
+}
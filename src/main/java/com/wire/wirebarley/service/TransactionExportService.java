@@ -0,0 +1,139 @@
+package com.wire.wirebarley.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wire.wirebarley.datasource.ReadWriteRoutingDataSource;
+import com.wire.wirebarley.dto.ExportFormat;
+import com.wire.wirebarley.dto.TransactionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams an account's full history straight from database cursors to the response. Rows are projected into
+ * response records (never managed entities) and written one at a time, so memory stays flat regardless of how
+ * many rows the account has.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String CSV_HEADER =
+            "id,accountNumber,type,amount,balanceAfter,targetAccountNumber,fee,description,createdAt";
+
+    private final AccountService accountService;
+    private final TransactionHistoryReader transactionHistoryReader;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    public StreamingResponseBody export(String accountNumber, ExportFormat format) {
+        // Verify account exists before the response is committed, so a missing account is still a 404
+        accountService.verifyAccountExists(accountNumber);
+
+        // The body is written on another thread; carry over a read-your-writes pin to the primary
+        boolean pinnedToPrimary = ReadWriteRoutingDataSource.isPinnedToPrimary();
+        return outputStream -> {
+            if (!pinnedToPrimary) {
+                writeHistory(accountNumber, format, outputStream);
+                return;
+            }
+            ReadWriteRoutingDataSource.pinToPrimary();
+            try {
+                writeHistory(accountNumber, format, outputStream);
+            } finally {
+                ReadWriteRoutingDataSource.unpin();
+            }
+        };
+    }
+
+    private void writeHistory(String accountNumber, ExportFormat format, OutputStream outputStream) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            ObjectWriter rowWriter = objectMapper.writerFor(TransactionResponse.class);
+            long count = 0;
+
+            // Hot and archived rows arrive as one stream merged from both tables' cursors
+            try (Stream<TransactionResponse> transactions = transactionHistoryReader.streamHistory(accountNumber)) {
+                if (format == ExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+
+                Iterator<TransactionResponse> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    TransactionResponse row = iterator.next();
+
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, row);
+                    } else {
+                        writer.write(rowWriter.writeValueAsString(row));
+                    }
+                    writer.write('\n');
+
+                    // Flush the first row right away so the client starts receiving bytes immediately
+                    if (++count == 1 || count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            log.info("History export completed: account={}, format={}, rows={}", accountNumber, format, count);
+        });
+    }
+
+    private void writeCsvRow(Writer writer, TransactionResponse row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.accountNumber());
+        writer.write(',');
+        writer.write(row.type().name());
+        writer.write(',');
+        writer.write(plain(row.amount()));
+        writer.write(',');
+        writer.write(plain(row.balanceAfter()));
+        writer.write(',');
+        writer.write(row.targetAccountNumber() == null ? "" : row.targetAccountNumber());
+        writer.write(',');
+        writer.write(plain(row.fee()));
+        writer.write(',');
+        writer.write(escapeCsv(row.description()));
+        writer.write(',');
+        writer.write(row.createdAt().toString());
+    }
+
+    private String plain(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
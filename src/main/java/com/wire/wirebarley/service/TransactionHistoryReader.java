@@ -0,0 +1,191 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.HistoryCursor;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.repository.ArchivedTransactionRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads account history across the hot {@code transactions} table and {@code transactions_archive}, newest first
+ * by (createdAt, id). The archive is only queried when the requested rows can be there: every archived row is
+ * older than the archive horizon, so a page that the hot table fills with rows newer than the horizon is served
+ * from the hot table alone.
+ *
+ * <p>The two tables are read separately, so an archive chunk that commits in between (copy, then delete) can make
+ * the same row show up in both reads. Merged results drop such repeats by id.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionHistoryReader {
+
+    private static final Comparator<TransactionResponse> NEWEST_FIRST = Comparator
+            .comparing(TransactionResponse::createdAt)
+            .thenComparing(TransactionResponse::id)
+            .reversed();
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+
+    // Upper bound on createdAt in the archive: null until loaded, LocalDateTime.MIN while the archive is empty
+    private final AtomicReference<LocalDateTime> archiveHorizon = new AtomicReference<>();
+
+    /**
+     * Up to {@code limit} rows strictly after the cursor (or the newest rows when it is null).
+     */
+    public List<TransactionResponse> findPage(String accountNumber, HistoryCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        List<TransactionResponse> hot = cursor == null
+                ? transactionRepository.findLatestByAccountNumber(accountNumber, pageable)
+                : transactionRepository.findByAccountNumberBefore(
+                        accountNumber, cursor.createdAt(), cursor.id(), pageable);
+        return fanOut(hot, null, limit, () -> cursor == null
+                ? archivedTransactionRepository.findLatestByAccountNumber(accountNumber, pageable)
+                : archivedTransactionRepository.findByAccountNumberBefore(
+                        accountNumber, cursor.createdAt(), cursor.id(), pageable));
+    }
+
+    /**
+     * Up to {@code limit} rows created at or after {@code from} and strictly before the cursor, optionally of one
+     * type. The archive is skipped entirely when {@code from} is newer than everything in it.
+     */
+    public List<TransactionResponse> findStatementPage(String accountNumber, TransactionType type,
+                                                       LocalDateTime from, HistoryCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        List<TransactionResponse> hot = type == null
+                ? transactionRepository.findStatementPage(
+                        accountNumber, from, cursor.createdAt(), cursor.id(), pageable)
+                : transactionRepository.findStatementPageByType(
+                        accountNumber, type, from, cursor.createdAt(), cursor.id(), pageable);
+        return fanOut(hot, from, limit, () -> type == null
+                ? archivedTransactionRepository.findStatementPage(
+                        accountNumber, from, cursor.createdAt(), cursor.id(), pageable)
+                : archivedTransactionRepository.findStatementPageByType(
+                        accountNumber, type, from, cursor.createdAt(), cursor.id(), pageable));
+    }
+
+    private List<TransactionResponse> fanOut(List<TransactionResponse> hot, LocalDateTime from, int limit,
+                                             Supplier<List<TransactionResponse>> archiveQuery) {
+        LocalDateTime horizon = archiveHorizon();
+        boolean pageNewerThanArchive = hot.size() == limit && hot.get(limit - 1).createdAt().isAfter(horizon);
+        boolean rangeNewerThanArchive = from != null && from.isAfter(horizon);
+        if (horizon == LocalDateTime.MIN || pageNewerThanArchive || rangeNewerThanArchive) {
+            return hot;
+        }
+
+        List<TransactionResponse> merged = Stream.concat(hot.stream(), archiveQuery.get().stream())
+                .sorted(NEWEST_FIRST)
+                .toList();
+        List<TransactionResponse> page = new ArrayList<>(Math.min(limit, merged.size()));
+        for (TransactionResponse row : merged) {
+            if (page.size() == limit) {
+                break;
+            }
+            // A row moved while the tables were read sorts next to its copy
+            if (page.isEmpty() || !page.get(page.size() - 1).id().equals(row.id())) {
+                page.add(row);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * The full history as one stream merged from both tables' cursors. Must be consumed inside a transaction and
+     * closed.
+     */
+    public Stream<TransactionResponse> streamHistory(String accountNumber) {
+        Stream<TransactionResponse> hot = transactionRepository.streamByAccountNumber(accountNumber);
+        if (archiveHorizon() == LocalDateTime.MIN) {
+            return hot;
+        }
+
+        Stream<TransactionResponse> archived = archivedTransactionRepository.streamByAccountNumber(accountNumber);
+        Iterator<TransactionResponse> merged = new MergingIterator(hot.iterator(), archived.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        hot.close();
+                    } finally {
+                        archived.close();
+                    }
+                });
+    }
+
+    /**
+     * Called by the archive job before it moves rows created before {@code cutoff}, so readers start looking in
+     * the archive no later than the rows arrive there.
+     */
+    public void archiving(LocalDateTime cutoff) {
+        archiveHorizon.accumulateAndGet(cutoff, (current, next) ->
+                current == null || next.isAfter(current) ? next : current);
+    }
+
+    private LocalDateTime archiveHorizon() {
+        LocalDateTime horizon = archiveHorizon.get();
+        if (horizon == null) {
+            LocalDateTime newest = archivedTransactionRepository.findNewestCreatedAt();
+            archiveHorizon.compareAndSet(null, newest == null ? LocalDateTime.MIN : newest);
+            horizon = archiveHorizon.get();
+        }
+        return horizon;
+    }
+
+    // Two-way merge of cursors that are each ordered newest first; a row present in both is returned once
+    private static final class MergingIterator implements Iterator<TransactionResponse> {
+
+        private final Iterator<TransactionResponse> left;
+        private final Iterator<TransactionResponse> right;
+        private TransactionResponse nextLeft;
+        private TransactionResponse nextRight;
+
+        MergingIterator(Iterator<TransactionResponse> left, Iterator<TransactionResponse> right) {
+            this.left = left;
+            this.right = right;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLeft != null || nextRight != null;
+        }
+
+        @Override
+        public TransactionResponse next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TransactionResponse result;
+            if (nextLeft != null && nextRight != null && nextLeft.id().equals(nextRight.id())) {
+                result = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+                nextRight = right.hasNext() ? right.next() : null;
+            } else if (nextRight == null || (nextLeft != null && NEWEST_FIRST.compare(nextLeft, nextRight) <= 0)) {
+                result = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                result = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            return result;
+        }
+    }
+}
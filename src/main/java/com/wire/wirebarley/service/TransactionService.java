@@ -2,84 +2,98 @@ package com.wire.wirebarley.service;
 
 import com.wire.wirebarley.domain.Account;
 import com.wire.wirebarley.domain.DailyLimit;
+import com.wire.wirebarley.domain.Money;
 import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.domain.TransferFee;
 import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.event.TransactionsRecordedEvent;
 import com.wire.wirebarley.exception.BusinessException;
 import com.wire.wirebarley.exception.ErrorCode;
 import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
 import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
-    private static final BigDecimal DAILY_WITHDRAWAL_LIMIT = new BigDecimal("1000000");
-    private static final BigDecimal DAILY_TRANSFER_LIMIT = new BigDecimal("3000000");
-    private static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01");
+    private static final Money DAILY_WITHDRAWAL_LIMIT = Money.ofMajor(1_000_000);
+    private static final Money DAILY_TRANSFER_LIMIT = Money.ofMajor(3_000_000);
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     private final AccountService accountService;
     private final TransactionRepository transactionRepository;
     private final DailyLimitRepository dailyLimitRepository;
+    private final TransactionHistoryReader transactionHistoryReader;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @RetryOnConflict
     @Transactional
     public TransactionResponse deposit(DepositRequest request) {
-        Account account = accountService.findAccountByAccountNumberWithLock(request.accountNumber());
-
-        account.deposit(request.amount());
+        // One atomic UPDATE returning the new balance instead of lock, load, mutate and flush
+        BigDecimal balanceAfter = accountService.depositAtomically(request.accountNumber(), request.amount());
 
         Transaction transaction = Transaction.createDeposit(
-                account.getAccountNumber(),
+                request.accountNumber(),
                 request.amount(),
-                account.getBalance()
+                balanceAfter
         );
         Transaction savedTransaction = transactionRepository.save(transaction);
+        recordEntries(List.of(savedTransaction));
 
-        log.info("Deposit completed: account={}, amount={}", account.getAccountNumber(), request.amount());
+        log.info("Deposit completed: account={}, amount={}", request.accountNumber(), request.amount());
         return new TransactionResponse(savedTransaction);
     }
 
+    @RetryOnConflict
     @Transactional
     public TransactionResponse withdraw(WithdrawalRequest request) {
-        Account account = accountService.findAccountByAccountNumberWithLock(request.accountNumber());
-
-        // Check daily withdrawal limit
-        LocalDate today = LocalDate.now();
-        DailyLimit dailyLimit = dailyLimitRepository
-                .findByAccountNumberAndTransactionDateWithLock(request.accountNumber(), today)
-                .orElseGet(() -> new DailyLimit(request.accountNumber(), today));
+        // Guarded atomic UPDATE (balance >= amount). It runs before the daily limit upsert so that row locks are
+        // always taken account first, as in transfer; exceeding the limit below rolls the balance change back.
+        BigDecimal balanceAfter = accountService.withdrawAtomically(request.accountNumber(), request.amount());
 
-        BigDecimal newWithdrawalAmount = dailyLimit.getWithdrawalAmount().add(request.amount());
-        if (newWithdrawalAmount.compareTo(DAILY_WITHDRAWAL_LIMIT) > 0) {
+        // Check and count the daily withdrawal limit in one upsert
+        int counted = dailyLimitRepository.addWithdrawalAmountWithinLimit(
+                request.accountNumber(), LocalDate.now(), request.amount(), DAILY_WITHDRAWAL_LIMIT.toBigDecimal());
+        if (counted == 0) {
             throw new BusinessException(ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
         }
 
-        // Withdraw from account
-        account.withdraw(request.amount());
-        dailyLimit.addWithdrawalAmount(request.amount());
-        dailyLimitRepository.save(dailyLimit);
-
         Transaction transaction = Transaction.createWithdrawal(
-                account.getAccountNumber(),
+                request.accountNumber(),
                 request.amount(),
-                account.getBalance()
+                balanceAfter
         );
         Transaction savedTransaction = transactionRepository.save(transaction);
+        recordEntries(List.of(savedTransaction));
 
-        log.info("Withdrawal completed: account={}, amount={}", account.getAccountNumber(), request.amount());
+        log.info("Withdrawal completed: account={}, amount={}", request.accountNumber(), request.amount());
         return new TransactionResponse(savedTransaction);
     }
 
+    @RetryOnConflict
     @Transactional
     public TransferResponse transfer(TransferRequest request) {
         if (request.sourceAccountNumber().equals(request.targetAccountNumber())) {
@@ -99,44 +113,46 @@ public class TransactionService {
         Account targetAccount = accountService.findAccountByAccountNumber(request.targetAccountNumber());
 
         // Calculate fee
-        BigDecimal fee = request.amount().multiply(TRANSFER_FEE_RATE).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal totalDeduction = request.amount().add(fee);
-
-        // Check daily transfer limit (amount + fee)
-        LocalDate today = LocalDate.now();
-        DailyLimit dailyLimit = dailyLimitRepository
-                .findByAccountNumberAndTransactionDateWithLock(request.sourceAccountNumber(), today)
-                .orElseGet(() -> new DailyLimit(request.sourceAccountNumber(), today));
+        Money amount = Money.of(request.amount());
+        Money fee = TransferFee.calculate(amount);
+        Money totalDeduction = amount.plus(fee);
+        if (sourceAccount.getBalance().isLessThan(totalDeduction)) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
 
-        BigDecimal newTransferAmount = dailyLimit.getTransferAmount().add(request.amount());
-        if (newTransferAmount.compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+        // Check and count the daily transfer limit in one upsert
+        int counted = dailyLimitRepository.addTransferAmountWithinLimit(
+                request.sourceAccountNumber(), LocalDate.now(), request.amount(), DAILY_TRANSFER_LIMIT.toBigDecimal());
+        if (counted == 0) {
             throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
         }
 
         // Execute transfer
         sourceAccount.withdraw(totalDeduction);
-        targetAccount.deposit(request.amount());
-        dailyLimit.addTransferAmount(request.amount());
-        dailyLimitRepository.save(dailyLimit);
+        targetAccount.deposit(amount);
 
         // Record transactions
+        BigDecimal feeValue = fee.toBigDecimal();
+        BigDecimal sourceBalanceAfter = sourceAccount.getBalance().toBigDecimal();
+        BigDecimal targetBalanceAfter = targetAccount.getBalance().toBigDecimal();
         Transaction transferOut = Transaction.createTransferOut(
                 sourceAccount.getAccountNumber(),
                 request.amount(),
-                sourceAccount.getBalance(),
+                sourceBalanceAfter,
                 targetAccount.getAccountNumber(),
-                fee
+                feeValue
         );
 
         Transaction transferIn = Transaction.createTransferIn(
                 targetAccount.getAccountNumber(),
                 request.amount(),
-                targetAccount.getBalance(),
+                targetBalanceAfter,
                 sourceAccount.getAccountNumber()
         );
 
         transactionRepository.save(transferOut);
         transactionRepository.save(transferIn);
+        recordEntries(List.of(transferOut, transferIn));
 
         log.info("Transfer completed: from={}, to={}, amount={}, fee={}",
                 sourceAccount.getAccountNumber(), targetAccount.getAccountNumber(),
@@ -146,22 +162,208 @@ public class TransactionService {
                 sourceAccount.getAccountNumber(),
                 targetAccount.getAccountNumber(),
                 request.amount(),
-                fee,
-                sourceAccount.getBalance(),
-                targetAccount.getBalance()
+                feeValue,
+                sourceBalanceAfter,
+                targetBalanceAfter
+        );
+    }
+
+    /**
+     * Executes all transfers in a single database transaction. Every involved account is locked exactly once
+     * (in account number order) and each item is validated before it touches any balance, so a failing item
+     * is reported in its result without affecting the others.
+     */
+    @RetryOnConflict
+    @Transactional
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        List<TransferRequest> transfers = request.transfers();
+
+        SortedSet<String> accountNumbers = new TreeSet<>();
+        SortedSet<String> sourceAccountNumbers = new TreeSet<>();
+        for (TransferRequest transfer : transfers) {
+            accountNumbers.add(transfer.sourceAccountNumber());
+            accountNumbers.add(transfer.targetAccountNumber());
+            sourceAccountNumbers.add(transfer.sourceAccountNumber());
+        }
+
+        Map<String, Account> accounts = accountService.findAccountsByAccountNumbersWithLock(accountNumbers);
+
+        LocalDate today = LocalDate.now();
+        Map<String, DailyLimit> dailyLimits = new HashMap<>();
+        for (DailyLimit dailyLimit : dailyLimitRepository
+                .findAllByAccountNumberInAndTransactionDateWithLock(sourceAccountNumbers, today)) {
+            dailyLimits.put(dailyLimit.getAccountNumber(), dailyLimit);
+        }
+
+        List<BatchTransferItemResult> results = new ArrayList<>(transfers.size());
+        List<Transaction> transactions = new ArrayList<>(transfers.size() * 2);
+        Map<String, DailyLimit> touchedLimits = new HashMap<>();
+
+        for (int i = 0; i < transfers.size(); i++) {
+            TransferRequest transfer = transfers.get(i);
+            try {
+                TransferResponse response = applyBatchTransfer(transfer, accounts, dailyLimits, today,
+                        transactions, touchedLimits);
+                results.add(BatchTransferItemResult.success(i, response));
+            } catch (BusinessException e) {
+                results.add(BatchTransferItemResult.failure(i, e.getErrorCode()));
+            }
+        }
+
+        dailyLimitRepository.saveAll(touchedLimits.values());
+        transactionRepository.saveAll(transactions);
+        recordEntries(transactions);
+
+        BatchTransferResponse response = new BatchTransferResponse(results);
+        log.info("Batch transfer completed: total={}, succeeded={}, failed={}",
+                response.totalCount(), response.successCount(), response.failureCount());
+        return response;
+    }
+
+    // Counts new ledger rows into the daily summaries and copies them to the outbox, in the same transaction
+    // (account rows are already locked); balance streams are notified after commit
+    private void recordEntries(List<Transaction> transactions) {
+        if (!transactions.isEmpty()) {
+            List<Long> ids = transactions.stream().map(Transaction::getId).toList();
+            dailySummaryRepository.addEntries(ids);
+            outboxEventRepository.addEvents(ids);
+            eventPublisher.publishEvent(new TransactionsRecordedEvent(
+                    transactions.stream().map(TransactionResponse::new).toList()));
+        }
+    }
+
+    private TransferResponse applyBatchTransfer(TransferRequest transfer, Map<String, Account> accounts,
+                                                Map<String, DailyLimit> dailyLimits, LocalDate today,
+                                                List<Transaction> transactions,
+                                                Map<String, DailyLimit> touchedLimits) {
+        if (transfer.sourceAccountNumber().equals(transfer.targetAccountNumber())) {
+            throw new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+        }
+
+        Account sourceAccount = accounts.get(transfer.sourceAccountNumber());
+        Account targetAccount = accounts.get(transfer.targetAccountNumber());
+        if (sourceAccount == null || targetAccount == null) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        Money amount = Money.of(transfer.amount());
+        Money fee = TransferFee.calculate(amount);
+        Money totalDeduction = amount.plus(fee);
+
+        DailyLimit dailyLimit = dailyLimits.computeIfAbsent(transfer.sourceAccountNumber(),
+                accountNumber -> new DailyLimit(accountNumber, today));
+        if (dailyLimit.getTransferAmount().plus(amount).isGreaterThan(DAILY_TRANSFER_LIMIT)) {
+            throw new BusinessException(ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+        }
+        if (sourceAccount.getBalance().isLessThan(totalDeduction)) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // All checks passed, nothing above has mutated state
+        sourceAccount.withdraw(totalDeduction);
+        targetAccount.deposit(amount);
+        dailyLimit.addTransferAmount(amount);
+        touchedLimits.put(dailyLimit.getAccountNumber(), dailyLimit);
+
+        BigDecimal feeValue = fee.toBigDecimal();
+        BigDecimal sourceBalanceAfter = sourceAccount.getBalance().toBigDecimal();
+        BigDecimal targetBalanceAfter = targetAccount.getBalance().toBigDecimal();
+        transactions.add(Transaction.createTransferOut(
+                sourceAccount.getAccountNumber(),
+                transfer.amount(),
+                sourceBalanceAfter,
+                targetAccount.getAccountNumber(),
+                feeValue
+        ));
+        transactions.add(Transaction.createTransferIn(
+                targetAccount.getAccountNumber(),
+                transfer.amount(),
+                targetBalanceAfter,
+                sourceAccount.getAccountNumber()
+        ));
+
+        return new TransferResponse(
+                sourceAccount.getAccountNumber(),
+                targetAccount.getAccountNumber(),
+                transfer.amount(),
+                feeValue,
+                sourceBalanceAfter,
+                targetBalanceAfter
         );
     }
 
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getTransactionHistory(String accountNumber) {
+    public TransactionHistoryResponse getTransactionHistory(String accountNumber, String after, int limit) {
         // Verify account exists
-        accountService.findAccountByAccountNumber(accountNumber);
+        accountService.verifyAccountExists(accountNumber);
 
-        List<Transaction> transactions = transactionRepository
-                .findByAccountNumberOrderByCreatedAtDesc(accountNumber);
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        HistoryCursor cursor = (after == null || after.isBlank()) ? null : HistoryCursor.decode(after);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<TransactionResponse> transactions = transactionHistoryReader.findPage(accountNumber, cursor, pageSize + 1);
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionResponse> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        String nextCursor = hasNext ? HistoryCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new TransactionHistoryResponse(page, nextCursor, hasNext);
+    }
 
-        return transactions.stream()
-                .map(TransactionResponse::new)
-                .collect(Collectors.toList());
+    /**
+     * One page of an account's statement: rows created in [from, to), optionally of one type, newest first.
+     * {@code from} and {@code to} are ISO-8601 local date-times; a bare date means the start of that day.
+     */
+    @Transactional(readOnly = true)
+    public StatementResponse getStatement(String accountNumber, String from, String to, String type,
+                                          String after, int limit) {
+        accountService.verifyAccountExists(accountNumber);
+
+        LocalDateTime fromTime = parseStatementTime(from);
+        LocalDateTime toTime = parseStatementTime(to);
+        if (!fromTime.isBefore(toTime)) {
+            throw new BusinessException(ErrorCode.INVALID_STATEMENT_RANGE);
+        }
+        TransactionType transactionType = parseTransactionType(type);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        // The first page starts just below `to`: (to, Long.MIN_VALUE) excludes every row created at `to`. A client
+        // cursor is clamped to that bound, so a cursor from a wider range cannot page past `to`
+        HistoryCursor upperBound = new HistoryCursor(toTime, Long.MIN_VALUE);
+        HistoryCursor cursor = (after == null || after.isBlank()) ? upperBound : HistoryCursor.decode(after);
+        if (!cursor.createdAt().isBefore(toTime)) {
+            cursor = upperBound;
+        }
+
+        List<TransactionResponse> transactions = transactionHistoryReader.findStatementPage(
+                accountNumber, transactionType, fromTime, cursor, pageSize + 1);
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionResponse> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        String nextCursor = hasNext ? HistoryCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new StatementResponse(accountNumber, fromTime, toTime, transactionType, page, nextCursor, hasNext);
+    }
+
+    private LocalDateTime parseStatementTime(String value) {
+        if (value == null || value.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_STATEMENT_RANGE);
+        }
+        try {
+            return value.indexOf('T') < 0 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_STATEMENT_RANGE);
+        }
+    }
+
+    private TransactionType parseTransactionType(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_TRANSACTION_TYPE);
+        }
     }
-}
\ No newline at end of file
+}
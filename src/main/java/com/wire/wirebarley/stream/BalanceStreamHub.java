@@ -0,0 +1,209 @@
+package com.wire.wirebarley.stream;
+
+import com.wire.wirebarley.dto.AccountResponse;
+import com.wire.wirebarley.dto.BalanceUpdateResponse;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.event.AccountDeletedEvent;
+import com.wire.wirebarley.event.TransactionsRecordedEvent;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.service.AccountService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed balance changes to Server-Sent Events subscribers of an account.
+ *
+ * <p>Ledger entries are handed over after commit and only enqueued on the committing thread, into a bounded queue
+ * per subscriber. Each subscriber is drained by at most one sender task at a time, on a virtual thread, so a
+ * slow network write never holds up the commit path or other subscribers. A subscriber whose queue is full is
+ * disconnected rather than silently missing updates; the client reconnects and starts again from the current
+ * balance, which is always the first event of a stream.
+ *
+ * <p>Entries of one account are delivered in transaction id order. An entry older than the last one sent to a
+ * subscriber (its after-commit callback ran late, or in append-only ledger mode a credit committed after a newer
+ * entry) disconnects the subscriber: skipping it would lose a credit that carries only its amount, and sending
+ * it would apply a stale balance. The client reconnects and starts again from the current balance.
+ */
+@Slf4j
+@Component
+public class BalanceStreamHub {
+
+    static final String EVENT_NAME = "balance";
+
+    private final AccountService accountService;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("balance-stream-", 0).factory());
+
+    public BalanceStreamHub(AccountService accountService,
+                            @Value("${wirebarley.balance-stream.queue-capacity:64}") int queueCapacity,
+                            @Value("${wirebarley.balance-stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${wirebarley.balance-stream.timeout:10m}") Duration timeout) {
+        this.accountService = accountService;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe(String accountNumber) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(accountNumber, emitter, queueCapacity);
+
+        // Registered (paused) before the balance is read, so no entry committed after the read can be missed
+        subscribers.compute(accountNumber, (key, accountSubscribers) -> {
+            Set<Subscriber> registered = accountSubscribers != null
+                    ? accountSubscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            registered.add(subscriber);
+            return registered;
+        });
+        AccountResponse account;
+        try {
+            account = accountService.getAccount(accountNumber);
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+        senders.execute(() -> {
+            if (send(subscriber, new BalanceUpdateResponse(account))) {
+                drain(subscriber);
+            }
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsRecorded(TransactionsRecordedEvent event) {
+        for (TransactionResponse transaction : event.transactions()) {
+            Set<Subscriber> accountSubscribers = subscribers.get(transaction.accountNumber());
+            if (accountSubscribers == null) {
+                continue;
+            }
+            BalanceUpdateResponse update = new BalanceUpdateResponse(transaction);
+            for (Subscriber subscriber : accountSubscribers) {
+                if (!subscriber.queue.offer(update)) {
+                    log.debug("Slow balance stream subscriber dropped: account={}", subscriber.accountNumber);
+                    remove(subscriber);
+                    subscriber.emitter.complete();
+                } else if (subscriber.draining.compareAndSet(false, true)) {
+                    senders.execute(() -> drain(subscriber));
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        Set<Subscriber> accountSubscribers = subscribers.get(event.accountNumber());
+        if (accountSubscribers != null) {
+            for (Subscriber subscriber : accountSubscribers) {
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.values().forEach(accountSubscribers ->
+                accountSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            BalanceUpdateResponse update;
+            while ((update = subscriber.queue.poll()) != null) {
+                if (!send(subscriber, update)) {
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // An entry enqueued after the last poll but before the flag was cleared has no sender yet
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, BalanceUpdateResponse update) {
+        Long transactionId = update.transactionId();
+        if (transactionId != null) {
+            if (transactionId <= subscriber.lastTransactionId) {
+                log.debug("Out of order balance stream entry, subscriber dropped: account={}, id={}, last={}",
+                        subscriber.accountNumber, transactionId, subscriber.lastTransactionId);
+                remove(subscriber);
+                subscriber.emitter.complete();
+                return false;
+            }
+            subscriber.lastTransactionId = transactionId;
+        }
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(EVENT_NAME).data(update);
+            if (transactionId != null) {
+                event.id(String.valueOf(transactionId));
+            }
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            remove(subscriber);
+            return false;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.accountNumber, (key, accountSubscribers) -> {
+            if (accountSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return accountSubscribers.isEmpty() ? null : accountSubscribers;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final String accountNumber;
+        private final SseEmitter emitter;
+        private final BlockingQueue<BalanceUpdateResponse> queue;
+        // Set while a sender task owns the subscriber; starts set so nothing goes out before the current balance
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        // Only touched by the owning sender task (hand-over is ordered by the flag)
+        private long lastTransactionId = Long.MIN_VALUE;
+
+        Subscriber(String accountNumber, SseEmitter emitter, int queueCapacity) {
+            this.accountNumber = accountNumber;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.wire.wirebarley.async;
+
+import com.sun.net.httpserver.HttpServer;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallbackClientTest {
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        port = server.getAddress().getPort();
+        server.createContext("/", exchange -> {
+            received.add(exchange.getRequestURI().getPath());
+            if (exchange.getRequestURI().getPath().equals("/redirect")) {
+                exchange.getResponseHeaders().add("Location", "http://internal.test:" + port + "/internal");
+                exchange.sendResponseHeaders(302, -1);
+            } else {
+                exchange.sendResponseHeaders(200, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("콜백 전송 - 허용된 호스트로 결과를 POST")
+    void send_Delivers() {
+        // given
+        CallbackClient client = clientFor(new CallbackUrlPolicy(List.of("callback.test"), host -> loopback()));
+
+        // when & then
+        assertThatCode(() -> client.send("http://callback.test:" + port + "/hook", Map.of("transferId", 1)))
+                .doesNotThrowAnyException();
+        assertThat(received).containsExactly("/hook");
+    }
+
+    @Test
+    @DisplayName("DNS 리바인딩 - 접수 시 공인 주소였던 호스트가 전송 시 내부 주소로 바뀌면 연결하지 않음")
+    void send_RebindingToInternalAddressIsRefused() {
+        // given: the first lookup answers a public address, every later one the loopback address
+        AtomicInteger lookups = new AtomicInteger();
+        CallbackUrlPolicy policy = new CallbackUrlPolicy(List.of(), host -> lookups.getAndIncrement() == 0
+                ? new InetAddress[]{InetAddress.getByAddress(host, new byte[]{93, (byte) 184, (byte) 216, 34})}
+                : loopback());
+        String callbackUrl = "http://rebind.test:" + port + "/hook";
+        policy.validate(callbackUrl);
+
+        // when & then: the connection resolves through the policy again instead of trusting a second lookup
+        assertThatThrownBy(() -> clientFor(policy).send(callbackUrl, Map.of("transferId", 1)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CALLBACK_URL);
+        assertThat(lookups).hasValue(2);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리다이렉트 - 따라가지 않고 전송 실패로 처리")
+    void send_RedirectIsNotFollowed() {
+        // given: both hosts are allowed, so only redirect handling keeps the request from reaching /internal
+        CallbackClient client = clientFor(
+                new CallbackUrlPolicy(List.of("callback.test", "internal.test"), host -> loopback()));
+
+        // when & then
+        assertThatThrownBy(() -> client.send("http://callback.test:" + port + "/redirect", Map.of("transferId", 1)))
+                .isInstanceOf(RestClientException.class);
+        assertThat(received).containsExactly("/redirect");
+    }
+
+    private static CallbackClient clientFor(CallbackUrlPolicy policy) {
+        return new CallbackClient(RestClient.builder(), policy, Duration.ofSeconds(2));
+    }
+
+    private static InetAddress[] loopback() {
+        return new InetAddress[]{InetAddress.getLoopbackAddress()};
+    }
+}
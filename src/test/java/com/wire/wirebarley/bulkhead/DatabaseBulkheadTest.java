@@ -0,0 +1,76 @@
+package com.wire.wirebarley.bulkhead;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DatabaseBulkhead databaseBulkhead = new DatabaseBulkhead(meterRegistry, 1, Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("허용 수를 초과한 요청은 대기 시간 후 S003으로 거절")
+    void execute_RejectsWhenSaturated() throws Exception {
+        // given
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> databaseBulkhead.execute(() -> {
+            holding.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> databaseBulkhead.execute(() -> "second"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+        assertThat(meterRegistry.get("wirebarley.db.bulkhead.rejections").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(databaseBulkhead.execute(() -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("허용을 가진 스레드의 중첩 호출은 추가 허용 없이 실행")
+    void execute_IsReentrant() {
+        // when
+        String result = databaseBulkhead.execute(() -> databaseBulkhead.execute(() -> "nested"));
+
+        // then
+        assertThat(result).isEqualTo("nested");
+        assertThat(meterRegistry.get("wirebarley.db.bulkhead.available").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 허용을 반납")
+    void execute_ReleasesPermitOnFailure() {
+        // when
+        assertThatThrownBy(() -> databaseBulkhead.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(databaseBulkhead.execute(() -> "next")).isEqualTo("next");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
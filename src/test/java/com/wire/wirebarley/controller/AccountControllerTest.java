@@ -5,7 +5,10 @@ import com.wire.wirebarley.dto.AccountCreateRequest;
 import com.wire.wirebarley.dto.AccountResponse;
 import com.wire.wirebarley.exception.BusinessException;
 import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.service.AccountImportService;
 import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.AccountSummaryService;
+import com.wire.wirebarley.stream.BalanceStreamHub;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +36,15 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private AccountSummaryService accountSummaryService;
+
+    @MockBean
+    private BalanceStreamHub balanceStreamHub;
+
+    @MockBean
+    private AccountImportService accountImportService;
+
     @Test
     @DisplayName("계좌 생성 API 성공")
     void createAccount_Success() throws Exception {
@@ -104,6 +116,16 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.accountNumber").value(accountNumber));
     }
 
+    @Test
+    @DisplayName("계좌 요약 API 실패 - 지원하지 않는 요약 단위")
+    void getSummary_UnsupportedPeriod() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/accounts/{accountNumber}/summary", "1234567890")
+                        .param("period", "weekly"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("T008"));
+    }
+
     private AccountResponse createAccountResponse(String accountNumber) {
         return new AccountResponse(new com.wire.wirebarley.domain.Account(accountNumber));
     }
@@ -0,0 +1,47 @@
+package com.wire.wirebarley.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadWriteRoutingDataSource.unpin();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅")
+    void writeTransaction_RoutesToPrimary() {
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Route.REPLICA);
+    }
+
+    @Test
+    @DisplayName("read-your-writes로 고정된 스레드는 읽기 전용이어도 primary로 라우팅")
+    void pinnedReadOnlyTransaction_RoutesToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+    }
+}
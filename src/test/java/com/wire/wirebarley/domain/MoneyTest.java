@@ -0,0 +1,71 @@
+package com.wire.wirebarley.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("수수료 - 기존 BigDecimal HALF_UP 계산과 모든 경계에서 동일")
+    void transferFee_MatchesBigDecimalHalfUp() {
+        // given
+        BigDecimal rate = new BigDecimal("0.01");
+
+        // when & then: every remainder of the 1% split, plus large amounts
+        LongStream.concat(LongStream.rangeClosed(0, 10_000), LongStream.of(99_999_999_999_949L, 99_999_999_999_950L))
+                .forEach(minorUnits -> {
+                    BigDecimal amount = BigDecimal.valueOf(minorUnits, 2);
+                    BigDecimal expected = amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+                    assertThat(TransferFee.calculate(Money.of(amount)).toBigDecimal()).isEqualTo(expected);
+                });
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환 - 소수점 둘째자리까지만 정확히 변환")
+    void of_ExactConversion() {
+        // when & then
+        assertThat(Money.of(new BigDecimal("100000")).minorUnits()).isEqualTo(10_000_000);
+        assertThat(Money.of(new BigDecimal("0.5")).minorUnits()).isEqualTo(50);
+        assertThat(Money.of(new BigDecimal("12.30")).toBigDecimal()).isEqualTo(new BigDecimal("12.30"));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.005"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+30"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("연산 - 범위를 넘으면 예외")
+    void arithmetic_OverflowThrows() {
+        // given
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        // when & then
+        assertThat(Money.ofMajor(100).plus(Money.ofMinor(1)).minus(Money.ofMajor(1)))
+                .isEqualTo(Money.ofMinor(9_901));
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMajor(Long.MAX_VALUE / 10)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("JSON - 소수점 둘째자리 숫자로 직렬화하고 다시 읽음")
+    void json_RoundTrip() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // when
+        String json = objectMapper.writeValueAsString(Money.ofMinor(123_456));
+
+        // then
+        assertThat(json).isEqualTo("1234.56");
+        assertThat(objectMapper.readValue("1234.56", Money.class)).isEqualTo(Money.ofMinor(123_456));
+        assertThat(objectMapper.readValue("1234", Money.class)).isEqualTo(Money.ofMinor(123_400));
+    }
+}
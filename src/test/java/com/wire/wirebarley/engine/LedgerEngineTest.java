@@ -0,0 +1,191 @@
+package com.wire.wirebarley.engine;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.event.AccountDeletedEvent;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerEngineTest {
+
+    private static final int PARTITIONS = 2;
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(200);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private DailyLimitRepository dailyLimitRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LedgerEngine ledgerEngine;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ledgerEngine != null) {
+            ledgerEngine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("입금 파티션이 타임아웃보다 느려도 환불하지 않고 입금 결과를 기다린다")
+    void transfer_SlowTargetPartition_WaitsForCreditInsteadOfRefunding() {
+        // given: the source lives on partition 0, the target and a slow account on partition 1
+        startEngine(100);
+        String source = accountNumberOn(0, 3_000_000_000L);
+        String target = accountNumberOn(1, 3_000_000_000L);
+        String slow = accountNumberOn(1, Long.parseLong(target) + 1);
+        Account sourceAccount = new Account(source);
+        sourceAccount.deposit(Money.ofMajor(500_000));
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+
+        given(accountRepository.findByAccountNumber(anyString())).willAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            if (accountNumber.equals(source)) {
+                // While the debit runs, occupy the target partition so the credit queues behind a slow command
+                CompletableFuture.runAsync(() -> ledgerEngine.deposit(slow, new BigDecimal("1000")));
+                slowLoadStarted.await(5, TimeUnit.SECONDS);
+                return Optional.of(sourceAccount);
+            }
+            if (accountNumber.equals(slow)) {
+                slowLoadStarted.countDown();
+                Thread.sleep(COMMAND_TIMEOUT.toMillis() * 3);
+            }
+            return Optional.of(new Account(accountNumber));
+        });
+
+        // when
+        TransferResponse response = ledgerEngine.transfer(source, target, new BigDecimal("100000"));
+
+        // then: the credit applied after the timeout and the debit was not refunded
+        assertThat(response.sourceBalanceAfter()).isEqualByComparingTo(new BigDecimal("399000.00"));
+        assertThat(response.targetBalanceAfter()).isEqualByComparingTo(new BigDecimal("100000"));
+
+        assertThat(savedDescriptions())
+                .noneMatch(description -> description != null && description.startsWith("Refund"));
+
+        // and the engine keeps accepting commands
+        assertThat(ledgerEngine.deposit(target, new BigDecimal("1000")).balanceAfter())
+                .isEqualByComparingTo(new BigDecimal("101000"));
+    }
+
+    @Test
+    @DisplayName("입금 실패 시 출금 파티션 큐가 가득 차 있어도 환불을 버리지 않고 자리가 날 때까지 기다린다")
+    void transfer_CreditFailsWhileSourceQueueFull_StillRefunds() {
+        // given: queues hold one command; the source and two blockers on partition 0, the target on partition 1
+        startEngine(1);
+        String source = accountNumberOn(0, 3_000_000_000L);
+        String blocker = accountNumberOn(0, Long.parseLong(source) + 1);
+        String queued = accountNumberOn(0, Long.parseLong(blocker) + 1);
+        String target = accountNumberOn(1, 3_000_000_000L);
+        Account sourceAccount = new Account(source);
+        sourceAccount.deposit(Money.ofMajor(500_000));
+        AtomicBoolean targetDeleted = new AtomicBoolean();
+        CountDownLatch sourceQueueFull = new CountDownLatch(1);
+
+        given(accountRepository.findByAccountNumber(anyString())).willAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            if (accountNumber.equals(source)) {
+                // While the debit runs, delete the target and queue a command that will occupy partition 0
+                targetDeleted.set(true);
+                ledgerEngine.onAccountDeleted(new AccountDeletedEvent(target));
+                CompletableFuture.runAsync(() -> ledgerEngine.deposit(blocker, new BigDecimal("1000")));
+                return Optional.of(sourceAccount);
+            }
+            if (accountNumber.equals(blocker)) {
+                // Runs right after the debit: fill the queue, then hold the partition past the command timeout
+                CompletableFuture.runAsync(() -> ledgerEngine.deposit(queued, new BigDecimal("1000")));
+                Thread.sleep(100);
+                sourceQueueFull.countDown();
+                Thread.sleep(COMMAND_TIMEOUT.toMillis() * 3);
+            }
+            if (accountNumber.equals(target) && targetDeleted.get()) {
+                // The credit fails only once partition 0 has no room left for the refund
+                sourceQueueFull.await(5, TimeUnit.SECONDS);
+                return Optional.empty();
+            }
+            return Optional.of(new Account(accountNumber));
+        });
+
+        // when & then: the credit fails, and the refund is applied once the queue has room again
+        assertThatThrownBy(() -> ledgerEngine.transfer(source, target, new BigDecimal("100000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+        assertThat(savedDescriptions()).contains("Refund of transfer to " + target);
+        assertThat(ledgerEngine.withdraw(source, new BigDecimal("1000")).balanceAfter())
+                .isEqualByComparingTo(new BigDecimal("499000"));
+    }
+
+    private void startEngine(int queueCapacity) {
+        ledgerEngine = new LedgerEngine(accountRepository, dailyLimitRepository, transactionRepository,
+                dailySummaryRepository, outboxEventRepository, eventPublisher, transactionManager,
+                PARTITIONS, queueCapacity, 500, COMMAND_TIMEOUT);
+        ledgerEngine.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedDescriptions() {
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository, atLeastOnce()).saveAll(saved.capture());
+        return saved.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(Transaction::getDescription)
+                .toList();
+    }
+
+    private static String accountNumberOn(int partition, long from) {
+        for (long candidate = from; ; candidate++) {
+            String accountNumber = Long.toString(candidate);
+            if (Math.floorMod(accountNumber.hashCode(), PARTITIONS) == partition) {
+                return accountNumber;
+            }
+        }
+    }
+}
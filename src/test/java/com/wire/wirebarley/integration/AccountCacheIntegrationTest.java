@@ -0,0 +1,80 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.config.CacheConfig;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.AccountMetadata;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.service.AccountLookupService;
+import com.wire.wirebarley.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AccountCacheIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountLookupService accountLookupService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("계좌 조회 캐시 - 조회 시 적재, 삭제 커밋 시 제거")
+    void accountMetadataCachedAndEvictedOnDelete() {
+        String accountNumber = "3000000001";
+        Cache cache = cacheManager.getCache(CacheConfig.ACCOUNT_METADATA);
+
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        assertThat(cache.get(accountNumber)).isNull();
+
+        accountService.verifyAccountExists(accountNumber);
+        AccountMetadata cached = cache.get(accountNumber, AccountMetadata.class);
+        assertThat(cached).isNotNull();
+        assertThat(accountLookupService.findMetadata(accountNumber)).contains(cached);
+
+        accountService.deleteAccount(accountNumber);
+        assertThat(cache.get(accountNumber)).isNull();
+        assertThatThrownBy(() -> accountService.verifyAccountExists(accountNumber))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("계좌 조회 캐시 - 삭제 커밋 전에 읽은 조회가 나중에 커밋되어도 캐시하지 않음")
+    void lookupCommittedAfterDeleteIsNotCached() {
+        String accountNumber = "3000000002";
+        Cache cache = cacheManager.getCache(CacheConfig.ACCOUNT_METADATA);
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+        TransactionTemplate delete = new TransactionTemplate(transactionManager);
+        delete.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        lookup.executeWithoutResult(status -> {
+            assertThat(accountLookupService.findMetadata(accountNumber)).isPresent();
+            // The delete commits while the lookup's transaction is still open
+            delete.executeWithoutResult(inner -> accountService.deleteAccount(accountNumber));
+        });
+
+        assertThat(cache.get(accountNumber)).isNull();
+        assertThatThrownBy(() -> accountService.verifyAccountExists(accountNumber))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+}
@@ -0,0 +1,115 @@
+package com.wire.wirebarley.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.AccountImportResult;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:account-import-test",
+        "wirebarley.account-import.chunk-size=2"
+})
+@AutoConfigureMockMvc
+class AccountImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("CSV 일괄 등록 - 줄마다 결과를 반환하고 잘못된 번호와 중복은 건너뜀")
+    void importCsv() throws Exception {
+        accountService.createAccount(new AccountCreateRequest("7300000003"));
+        String csv = """
+                accountNumber
+                7300000001
+                7300000002,partner-a
+                12345
+                7300000003
+                7300000001
+
+                "7300000004"
+                """;
+
+        List<AccountImportResult> results = importAccounts("csv", csv);
+
+        assertThat(results).extracting(AccountImportResult::line).containsExactly(2L, 3L, 4L, 5L, 6L, 8L);
+        assertThat(results).extracting(AccountImportResult::errorCode)
+                .containsExactly(null, null, "A004", "A002", "A002", null);
+        assertThat(accountRepository.findExistingAccountNumbers(
+                List.of("7300000001", "7300000002", "7300000003", "7300000004")))
+                .hasSize(4);
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 등록 - 해석할 수 없는 줄은 실패로 반환")
+    void importNdjson() throws Exception {
+        String ndjson = """
+                {"accountNumber":"7300000011"}
+                not json
+                {"accountNumber":"7300000012"}
+                """;
+
+        List<AccountImportResult> results = importAccounts("ndjson", ndjson);
+
+        assertThat(results).extracting(AccountImportResult::success).containsExactly(true, false, true);
+        assertThat(results.get(1).errorCode()).isEqualTo("A004");
+    }
+
+    @Test
+    @DisplayName("일괄 등록 실패 - 지원하지 않는 형식은 일괄 등록 전용 에러 코드")
+    void import_UnsupportedFormat() throws Exception {
+        mockMvc.perform(post("/api/accounts/bulk")
+                        .param("format", "xml")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("7300000021"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("A005"));
+    }
+
+    private List<AccountImportResult> importAccounts(String format, String body) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/accounts/bulk")
+                        .param("format", format)
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String content = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<AccountImportResult> results = new ArrayList<>();
+        for (String line : content.lines().toList()) {
+            results.add(objectMapper.readValue(line, AccountImportResult.class));
+        }
+        return results;
+    }
+}
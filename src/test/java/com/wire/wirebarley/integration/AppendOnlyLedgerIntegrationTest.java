@@ -0,0 +1,111 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.ledger.LedgerSnapshotJob;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:append-only-ledger-test",
+        "wirebarley.append-only-ledger.enabled=true",
+        "wirebarley.append-only-ledger.snapshot-interval=1h"
+})
+class AppendOnlyLedgerIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerSnapshotJob ledgerSnapshotJob;
+
+    @Test
+    @DisplayName("append-only 모드 - 잔액은 스냅샷 + 이후 거래로 계산되고 스냅샷 작업이 반영")
+    void balanceIsSnapshotPlusTail() {
+        String source = "5000000001";
+        String target = "5000000002";
+        accountService.createAccount(new AccountCreateRequest(source));
+        accountService.createAccount(new AccountCreateRequest(target));
+
+        TransactionResponse deposit = transactionService.deposit(new DepositRequest(source, new BigDecimal("100000")));
+        assertThat(deposit.balanceAfter()).isNull();
+
+        TransferResponse transfer = transactionService.transfer(
+                new TransferRequest(source, target, new BigDecimal("10000")));
+        assertThat(transfer.sourceBalanceAfter()).isEqualByComparingTo(new BigDecimal("89900.00"));
+
+        // Nothing has been folded into the snapshot yet
+        assertThat(accountRepository.findByAccountNumber(source).orElseThrow().getBalance())
+                .isEqualTo(Money.ZERO);
+        assertThat(accountService.getAccount(source).balance()).isEqualByComparingTo(new BigDecimal("89900.00"));
+        assertThat(accountService.getAccount(target).balance()).isEqualByComparingTo(new BigDecimal("10000"));
+
+        assertThatThrownBy(() -> transactionService.withdraw(new WithdrawalRequest(source, new BigDecimal("90000"))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+
+        ledgerSnapshotJob.snapshot();
+
+        Account snapshot = accountRepository.findByAccountNumber(source).orElseThrow();
+        assertThat(snapshot.getBalance()).isEqualTo(Money.ofMajor(89900));
+        assertThat(snapshot.getSnapshotTransactionId()).isPositive();
+        assertThat(accountRepository.findByAccountNumber(target).orElseThrow().getBalance())
+                .isEqualTo(Money.ofMajor(10000));
+
+        transactionService.withdraw(new WithdrawalRequest(source, new BigDecimal("9900")));
+        assertThat(accountService.getAccount(source).balance()).isEqualByComparingTo(new BigDecimal("80000.00"));
+    }
+
+    @Test
+    @DisplayName("append-only 모드 - 삭제 후 같은 번호로 다시 만든 계좌는 이전 계좌의 거래를 잔액에 포함하지 않음")
+    void recreatedAccountDoesNotInheritEntries() {
+        String accountNumber = "5000000003";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("50000")));
+        accountService.deleteAccount(accountNumber);
+
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        assertThat(accountService.getAccount(accountNumber).balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThatThrownBy(() -> transactionService.withdraw(new WithdrawalRequest(accountNumber, new BigDecimal("1000"))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("1000")));
+        assertThat(accountService.getAccount(accountNumber).balance()).isEqualByComparingTo(new BigDecimal("1000"));
+
+        ledgerSnapshotJob.snapshot();
+        assertThat(accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance())
+                .isEqualTo(Money.ofMajor(1000));
+    }
+
+    @Test
+    @DisplayName("append-only 모드 - 삭제된 계좌로의 입금은 거절")
+    void depositToDeletedAccountIsRejected() {
+        String accountNumber = "5000000004";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        accountService.deleteAccount(accountNumber);
+
+        assertThatThrownBy(() -> transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("1000"))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+}
@@ -0,0 +1,138 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransferIntentResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.TransferIntentRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.AsyncTransferService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+class AsyncTransferIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AsyncTransferService asyncTransferService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferIntentRepository transferIntentRepository;
+
+    @Test
+    @DisplayName("비동기 이체 - 접수 후 워커가 실행하고 상태 조회로 결과 확인")
+    void submittedTransferIsExecutedByWorker() {
+        String source = "4000000001";
+        String target = "4000000002";
+        accountService.createAccount(new AccountCreateRequest(source));
+        accountService.createAccount(new AccountCreateRequest(target));
+        transactionService.deposit(new DepositRequest(source, new BigDecimal("100000")));
+
+        TransferIntentResponse submitted = asyncTransferService.submit(
+                new TransferRequest(source, target, new BigDecimal("10000")), null);
+        assertThat(submitted.status()).isEqualTo(TransferIntentStatus.PENDING);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(
+                asyncTransferService.getTransfer(submitted.transferId()).status())
+                .isEqualTo(TransferIntentStatus.COMPLETED));
+
+        TransferIntentResponse completed = asyncTransferService.getTransfer(submitted.transferId());
+        assertThat(completed.fee()).isEqualByComparingTo(new BigDecimal("100.00"));
+        assertThat(completed.sourceBalanceAfter()).isEqualByComparingTo(new BigDecimal("89900.00"));
+        assertThat(accountRepository.findByAccountNumber(target).orElseThrow().getBalance())
+                .isEqualTo(Money.ofMajor(10000));
+    }
+
+    @Test
+    @DisplayName("비동기 이체 - 잔액 부족 시 실패 상태와 에러 코드 기록")
+    void submittedTransferFailsWithErrorCode() {
+        String source = "4000000003";
+        String target = "4000000004";
+        accountService.createAccount(new AccountCreateRequest(source));
+        accountService.createAccount(new AccountCreateRequest(target));
+
+        TransferIntentResponse submitted = asyncTransferService.submit(
+                new TransferRequest(source, target, new BigDecimal("10000")), null);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(
+                asyncTransferService.getTransfer(submitted.transferId()).status())
+                .isEqualTo(TransferIntentStatus.FAILED));
+        assertThat(asyncTransferService.getTransfer(submitted.transferId()).errorCode())
+                .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE.getCode());
+    }
+
+    @Test
+    @DisplayName("비동기 이체 - 잘못된 콜백 URL은 접수 거절")
+    void submitRejectsInvalidCallbackUrl() {
+        assertThatThrownBy(() -> asyncTransferService.submit(
+                new TransferRequest("4000000005", "4000000006", new BigDecimal("10000")), "ftp://example.com/hook"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CALLBACK_URL);
+    }
+
+    @Test
+    @DisplayName("비동기 이체 - 내부 주소로 향하는 콜백 URL은 접수 거절")
+    void submitRejectsInternalCallbackUrl() {
+        assertThatThrownBy(() -> asyncTransferService.submit(
+                new TransferRequest("4000000005", "4000000006", new BigDecimal("10000")),
+                "http://169.254.169.254/latest/meta-data/"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CALLBACK_URL);
+    }
+
+    @Test
+    @DisplayName("비동기 이체 - 대기 이체가 많이 쌓인 계좌가 있어도 다른 계좌의 이체가 먼저 실행됨")
+    void busySourceDoesNotStarveOtherSources() {
+        String busy = "4000000007";
+        String other = "4000000008";
+        String target = "4000000009";
+        accountService.createAccount(new AccountCreateRequest(busy));
+        accountService.createAccount(new AccountCreateRequest(other));
+        accountService.createAccount(new AccountCreateRequest(target));
+        transactionService.deposit(new DepositRequest(busy, new BigDecimal("1000000")));
+        transactionService.deposit(new DepositRequest(other, new BigDecimal("100000")));
+
+        // Far more intents from one source than max-queued (100), committed at once ahead of the other source's
+        List<TransferIntent> backlog = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            backlog.add(new TransferIntent(new TransferRequest(busy, target, new BigDecimal("1")), null));
+        }
+        backlog = transferIntentRepository.saveAll(backlog);
+        TransferIntentResponse otherTransfer = asyncTransferService.submit(
+                new TransferRequest(other, target, new BigDecimal("10000")), null);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(
+                asyncTransferService.getTransfer(otherTransfer.transferId()).status())
+                .isEqualTo(TransferIntentStatus.COMPLETED));
+        // Reading the backlog in pages of max-queued, the other source would only be reached with < 100 left
+        assertThat(asyncTransferService.getTransfer(backlog.get(199).getId()).status())
+                .isEqualTo(TransferIntentStatus.PENDING);
+    }
+}
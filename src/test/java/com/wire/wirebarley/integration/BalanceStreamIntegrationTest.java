@@ -0,0 +1,108 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.WithdrawalRequest;
+import com.wire.wirebarley.event.TransactionsRecordedEvent;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionService;
+import com.wire.wirebarley.stream.BalanceStreamHub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:balance-stream-test")
+@AutoConfigureMockMvc
+class BalanceStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceStreamHub balanceStreamHub;
+
+    @Test
+    @DisplayName("잔액 스트림 - 현재 잔액 후 커밋된 입금/출금의 잔액을 순서대로 전송")
+    void streamsCommittedBalanceChanges() throws Exception {
+        String accountNumber = "7200000001";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+
+        MvcResult stream = mockMvc.perform(get("/api/accounts/{accountNumber}/events", accountNumber))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(stream, "\"balance\":0");
+        assertThat(balanceStreamHub.subscriberCount()).isEqualTo(1);
+
+        TransactionResponse deposit = transactionService.deposit(
+                new DepositRequest(accountNumber, new BigDecimal("30000")));
+        TransactionResponse withdrawal = transactionService.withdraw(
+                new WithdrawalRequest(accountNumber, new BigDecimal("5000")));
+
+        String content = awaitContent(stream, "\"transactionId\":" + withdrawal.id());
+        assertThat(content).containsSubsequence(
+                "event:balance",
+                "\"balance\":30000", "\"transactionId\":" + deposit.id(),
+                "\"balance\":25000", "\"transactionId\":" + withdrawal.id());
+    }
+
+    @Test
+    @DisplayName("잔액 스트림 - 거래 ID 순서가 뒤바뀐 변경이 오면 건너뛰지 않고 연결을 끊음")
+    void outOfOrderEntryDisconnectsSubscriber() throws Exception {
+        String accountNumber = "7200000002";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        int subscribersBefore = balanceStreamHub.subscriberCount();
+
+        MvcResult stream = mockMvc.perform(get("/api/accounts/{accountNumber}/events", accountNumber))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(stream, "\"balance\":0");
+
+        // Append-only ledger credits carry no balance and can commit out of id order
+        balanceStreamHub.onTransactionsRecorded(new TransactionsRecordedEvent(List.of(
+                credit(accountNumber, 1_000_002L), credit(accountNumber, 1_000_001L))));
+
+        String content = awaitContent(stream, "\"transactionId\":1000002");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (balanceStreamHub.subscriberCount() > subscribersBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(balanceStreamHub.subscriberCount()).isEqualTo(subscribersBefore);
+        assertThat(content).doesNotContain("\"transactionId\":1000001");
+    }
+
+    private TransactionResponse credit(String accountNumber, long id) {
+        return new TransactionResponse(id, accountNumber, TransactionType.DEPOSIT, new BigDecimal("1000"), null,
+                null, null, null, LocalDateTime.now());
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
@@ -0,0 +1,70 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledger-engine-test",
+        "wirebarley.ledger-engine.enabled=true",
+        "wirebarley.ledger-engine.partitions=4"
+})
+class LedgerEngineIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("원장 엔진 모드 입금 -> 이체 후 잔액이 DB에 반영된다")
+    void depositAndTransferArePersisted() {
+        String source = "2000000001";
+        String target = "2000000002";
+        accountService.createAccount(new AccountCreateRequest(source));
+        accountService.createAccount(new AccountCreateRequest(target));
+
+        transactionService.deposit(new DepositRequest(source, new BigDecimal("500000")));
+        TransferResponse transfer = transactionService.transfer(
+                new TransferRequest(source, target, new BigDecimal("100000")));
+
+        assertThat(transfer.sourceBalanceAfter()).isEqualByComparingTo(new BigDecimal("399000.00"));
+        assertThat(transfer.targetBalanceAfter()).isEqualByComparingTo(new BigDecimal("100000"));
+
+        // Responses are sent only after the journal batch has committed
+        Account sourceAccount = accountRepository.findByAccountNumber(source).orElseThrow();
+        Account targetAccount = accountRepository.findByAccountNumber(target).orElseThrow();
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.ofMajor(399000));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.ofMajor(100000));
+    }
+
+    @Test
+    @DisplayName("원장 엔진 모드 잔액 부족 시 출금 실패")
+    void withdrawInsufficientBalance() {
+        String accountNumber = "2000000003";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+
+        assertThatThrownBy(() -> transactionService.withdraw(
+                new WithdrawalRequest(accountNumber, new BigDecimal("1000"))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+    }
+}
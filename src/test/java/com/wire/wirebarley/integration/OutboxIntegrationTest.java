@@ -0,0 +1,89 @@
+package com.wire.wirebarley.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.outbox.EventLog;
+import com.wire.wirebarley.outbox.OutboxRelay;
+import com.wire.wirebarley.repository.OutboxEventRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionEventService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-test",
+        "wirebarley.outbox.poll-interval=1h"
+})
+class OutboxIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionEventService transactionEventService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private EventLog eventLog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("outbox - 거래가 같은 트랜잭션에서 outbox에 기록되고 relay가 이벤트 로그로 옮김")
+    void transactionsAreRelayedToEventLog() throws Exception {
+        accountService.createAccount(new AccountCreateRequest("7100000001"));
+        accountService.createAccount(new AccountCreateRequest("7100000002"));
+        long start = eventLog.endOffset();
+
+        TransactionResponse deposit = transactionService.deposit(new DepositRequest("7100000001", new BigDecimal("50000")));
+        transactionService.transfer(new TransferRequest("7100000001", "7100000002", new BigDecimal("10000")));
+        assertThat(outboxEventRepository.count()).isEqualTo(3);
+
+        assertThat(outboxRelay.relay()).isEqualTo(3);
+        assertThat(outboxEventRepository.count()).isZero();
+
+        EventLog.Slice slice = transactionEventService.read(eventLog.epoch(), start, 100, 0);
+        List<TransactionEvent> events = new ArrayList<>();
+        for (String line : new String(slice.records(), StandardCharsets.UTF_8).lines().toList()) {
+            events.add(objectMapper.readValue(line, TransactionEvent.class));
+        }
+
+        assertThat(slice.nextOffset()).isEqualTo(start + 3);
+        assertThat(events).extracting(TransactionEvent::offset).containsExactly(start, start + 1, start + 2);
+        assertThat(events.get(0).transactionId()).isEqualTo(deposit.id());
+        assertThat(events).extracting(TransactionEvent::type)
+                .containsExactlyInAnyOrder(TransactionType.DEPOSIT, TransactionType.TRANSFER_OUT,
+                        TransactionType.TRANSFER_IN);
+    }
+
+    @Test
+    @DisplayName("이벤트 조회 실패 - 다른 epoch에서 읽은 오프셋은 거부")
+    void read_StaleEpoch() {
+        assertThatThrownBy(() -> transactionEventService.read("stale-epoch", 0, 100, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EVENT_LOG_EPOCH_MISMATCH);
+    }
+}
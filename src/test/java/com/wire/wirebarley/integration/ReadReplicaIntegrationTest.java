@@ -0,0 +1,70 @@
+package com.wire.wirebarley.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-replica-test",
+        "wirebarley.replica.enabled=true",
+        "wirebarley.replica.sticky-window=5s"
+})
+@AutoConfigureMockMvc
+class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Test
+    @DisplayName("읽기/쓰기 분리 - 쓰기 후 쿠키로 primary 고정, 쿠키 없는 읽기는 replica 풀 사용")
+    void readsUseReplicaUnlessClientJustWrote() throws Exception {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+
+        Cookie primaryUntil = mockMvc.perform(post("/api/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountNumber\":\"7000000001\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists("wb-primary-until"))
+                .andReturn().getResponse().getCookie("wb-primary-until");
+
+        mockMvc.perform(post("/api/transactions/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountNumber\":\"7000000001\",\"amount\":10000}"))
+                .andExpect(status().isOk());
+
+        // The client that just wrote reads from the primary
+        mockMvc.perform(get("/api/accounts/{accountNumber}", "7000000001").cookie(primaryUntil))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(10000));
+
+        // Everyone else reads from the replica pool (here the same database, standing in for a replica)
+        mockMvc.perform(get("/api/accounts/{accountNumber}", "7000000001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(10000));
+        assertThat(replicaDataSource.getHikariPoolMXBean().getTotalConnections()).isPositive();
+    }
+}
@@ -0,0 +1,86 @@
+package com.wire.wirebarley.integration;
+
+import com.wire.wirebarley.archive.TransactionArchiveJob;
+import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.repository.ArchivedTransactionRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionExportService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-archive-test",
+        "wirebarley.archive.enabled=true",
+        "wirebarley.archive.max-age=0s",
+        "wirebarley.archive.chunk-size=2",
+        "wirebarley.archive.chunk-pause=0s",
+        "wirebarley.archive.interval=1h"
+})
+class TransactionArchiveIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Autowired
+    private TransactionArchiveJob transactionArchiveJob;
+
+    @Test
+    @DisplayName("보관된 거래 - 내역 조회와 내보내기가 hot 테이블과 보관 테이블을 이어서 반환")
+    void historySpansHotAndArchive() throws Exception {
+        String accountNumber = "6000000001";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        for (int i = 1; i <= 3; i++) {
+            transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal(i * 1000)));
+        }
+
+        assertThat(transactionArchiveJob.archive()).isEqualTo(3);
+        assertThat(archivedTransactionRepository.count()).isEqualTo(3);
+        assertThat(transactionRepository.count()).isZero();
+
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("4000")));
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("5000")));
+
+        // Page through: the first page is served from the hot table, later ones cross into the archive
+        List<TransactionResponse> rows = new ArrayList<>();
+        String cursor = null;
+        TransactionHistoryResponse page;
+        do {
+            page = transactionService.getTransactionHistory(accountNumber, cursor, 2);
+            rows.addAll(page.transactions());
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        assertThat(rows).extracting(TransactionResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("5000"), new BigDecimal("4000"), new BigDecimal("3000"),
+                        new BigDecimal("2000"), new BigDecimal("1000"));
+
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        transactionExportService.export(accountNumber, ExportFormat.NDJSON).writeTo(export);
+        assertThat(export.toString(StandardCharsets.UTF_8).lines()).hasSize(5);
+    }
+}
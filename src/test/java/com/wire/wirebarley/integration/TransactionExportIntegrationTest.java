@@ -0,0 +1,138 @@
+package com.wire.wirebarley.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wire.wirebarley.domain.Transaction;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.WithdrawalRequest;
+import com.wire.wirebarley.repository.TransactionRepository;
+import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transaction-export-test")
+@AutoConfigureMockMvc
+class TransactionExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 한 줄에 거래 하나를 최신순으로 반환")
+    void exportNdjson() throws Exception {
+        // given
+        String accountNumber = "7400000001";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("50000")));
+        transactionService.withdraw(new WithdrawalRequest(accountNumber, new BigDecimal("20000")));
+
+        // when
+        String content = export(accountNumber, "ndjson", "application/x-ndjson");
+
+        // then
+        List<TransactionResponse> rows = new ArrayList<>();
+        for (String line : content.lines().toList()) {
+            rows.add(objectMapper.readValue(line, TransactionResponse.class));
+        }
+        assertThat(rows).extracting(TransactionResponse::type)
+                .containsExactly(TransactionType.WITHDRAWAL, TransactionType.DEPOSIT);
+        assertThat(rows.get(0).balanceAfter()).isEqualByComparingTo(new BigDecimal("30000"));
+        assertThat(rows.get(1).amount()).isEqualByComparingTo(new BigDecimal("50000"));
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더 뒤에 거래를 최신순으로 반환하고 쉼표/따옴표/줄바꿈/CR이 있는 값은 따옴표로 감쌈")
+    void exportCsv() throws Exception {
+        // given
+        String accountNumber = "7400000002";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+        transactionService.deposit(new DepositRequest(accountNumber, new BigDecimal("50000")));
+        transactionRepository.save(new Transaction(accountNumber, TransactionType.WITHDRAWAL, new BigDecimal("100"),
+                new BigDecimal("49900"), null, null, "Refund \"A\", line\nbreak"));
+        transactionRepository.save(new Transaction(accountNumber, TransactionType.WITHDRAWAL, new BigDecimal("100"),
+                new BigDecimal("49800"), null, null, "carriage\rreturn"));
+
+        // when
+        String content = export(accountNumber, "csv", "text/csv");
+
+        // then
+        assertThat(content).startsWith(
+                "id,accountNumber,type,amount,balanceAfter,targetAccountNumber,fee,description,createdAt\n");
+        assertThat(content).contains(",7400000002,WITHDRAWAL,100.00,49900.00,,,\"Refund \"\"A\"\", line\nbreak\",");
+        assertThat(content).contains(",7400000002,WITHDRAWAL,100.00,49800.00,,,\"carriage\rreturn\",");
+        assertThat(content).contains(",7400000002,DEPOSIT,50000.00,50000.00,,,,");
+        assertThat(content.indexOf("WITHDRAWAL")).isLessThan(content.indexOf("DEPOSIT"));
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 지원하지 않는 형식")
+    void export_UnsupportedFormat() throws Exception {
+        // given
+        String accountNumber = "7400000003";
+        accountService.createAccount(new AccountCreateRequest(accountNumber));
+
+        // when & then
+        mockMvc.perform(get("/api/transactions/history/{accountNumber}/export", accountNumber)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("T004"));
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 존재하지 않는 계좌는 응답 전송 전에 404")
+    void export_AccountNotFound() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/transactions/history/{accountNumber}/export", "7400000099")
+                        .param("format", "csv"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("A001"));
+    }
+
+    private String export(String accountNumber, String format, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/transactions/history/{accountNumber}/export", accountNumber)
+                        .param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + accountNumber + "." + format + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
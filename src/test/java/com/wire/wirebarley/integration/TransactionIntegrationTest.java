@@ -1,10 +1,18 @@
 package com.wire.wirebarley.integration;
 
 import com.wire.wirebarley.domain.Account;
+import com.wire.wirebarley.domain.DailyLimit;
+import com.wire.wirebarley.domain.Money;
+import com.wire.wirebarley.domain.TransactionType;
 import com.wire.wirebarley.dto.*;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
 import com.wire.wirebarley.repository.AccountRepository;
+import com.wire.wirebarley.repository.DailyLimitRepository;
 import com.wire.wirebarley.service.AccountService;
+import com.wire.wirebarley.service.AccountSummaryService;
 import com.wire.wirebarley.service.TransactionService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +21,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -27,9 +36,18 @@ class TransactionIntegrationTest {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private DailyLimitRepository dailyLimitRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private String accountNumber1;
     private String accountNumber2;
 
@@ -65,8 +83,9 @@ class TransactionIntegrationTest {
         assertThat(transferResponse.targetBalanceAfter()).isEqualByComparingTo(new BigDecimal("100000"));
 
         // 거래내역 조회
-        List<TransactionResponse> history = transactionService.getTransactionHistory(accountNumber1);
-        assertThat(history).hasSize(3); // deposit, withdrawal, transfer_out
+        TransactionHistoryResponse history = transactionService.getTransactionHistory(accountNumber1, null, 20);
+        assertThat(history.transactions()).hasSize(3); // deposit, withdrawal, transfer_out
+        assertThat(history.hasNext()).isFalse();
     }
 
     @Test
@@ -74,19 +93,148 @@ class TransactionIntegrationTest {
     void balanceVerification() {
         // 초기 잔액 확인
         Account account = accountRepository.findByAccountNumber(accountNumber1).orElseThrow();
-        assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(account.getBalance()).isEqualTo(Money.ZERO);
 
         // 입금 후 잔액 확인
         transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal("1000000")));
         account = accountRepository.findByAccountNumber(accountNumber1).orElseThrow();
-        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("1000000"));
+        assertThat(account.getBalance()).isEqualTo(Money.ofMajor(1000000));
 
         // 이체 후 잔액 확인 (금액 + 수수료 차감)
         transactionService.transfer(new TransferRequest(accountNumber1, accountNumber2, new BigDecimal("100000")));
         account = accountRepository.findByAccountNumber(accountNumber1).orElseThrow();
-        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("899000.00"));
+        assertThat(account.getBalance()).isEqualTo(Money.ofMajor(899000));
 
         Account targetAccount = accountRepository.findByAccountNumber(accountNumber2).orElseThrow();
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo(new BigDecimal("100000"));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.ofMajor(100000));
+    }
+
+    @Test
+    @DisplayName("일일 출금 한도 upsert 통합 테스트")
+    void dailyWithdrawalLimitUpsert() {
+        transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal("2000000")));
+
+        // 당일 첫 출금은 한도 행을 생성, 이후 출금은 누적 (한도와 정확히 같은 금액까지 허용)
+        transactionService.withdraw(new WithdrawalRequest(accountNumber1, new BigDecimal("600000")));
+        transactionService.withdraw(new WithdrawalRequest(accountNumber1, new BigDecimal("400000")));
+
+        assertThatThrownBy(() -> transactionService.withdraw(new WithdrawalRequest(accountNumber1, BigDecimal.ONE)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+
+        DailyLimit dailyLimit = dailyLimitRepository
+                .findByAccountNumberAndTransactionDate(accountNumber1, LocalDate.now()).orElseThrow();
+        assertThat(dailyLimit.getWithdrawalAmount()).isEqualTo(Money.ofMajor(1000000));
+        assertThat(dailyLimit.getTransferAmount()).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("거래내역 커서 기반 페이지 조회 통합 테스트")
+    void historyKeysetPagination() {
+        for (int i = 1; i <= 5; i++) {
+            transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal(i * 1000)));
+        }
+
+        TransactionHistoryResponse firstPage = transactionService.getTransactionHistory(accountNumber1, null, 2);
+        assertThat(firstPage.transactions()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.transactions().get(0).amount()).isEqualByComparingTo(new BigDecimal("5000"));
+
+        TransactionHistoryResponse secondPage = transactionService
+                .getTransactionHistory(accountNumber1, firstPage.nextCursor(), 2);
+        assertThat(secondPage.transactions()).hasSize(2);
+        assertThat(secondPage.transactions().get(0).amount()).isEqualByComparingTo(new BigDecimal("3000"));
+
+        TransactionHistoryResponse lastPage = transactionService
+                .getTransactionHistory(accountNumber1, secondPage.nextCursor(), 2);
+        assertThat(lastPage.transactions()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("일별 요약 - 거래 기록과 같은 트랜잭션에서 유형별 건수/합계 누적")
+    void dailySummaryIsMaintained() {
+        transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal("500000")));
+        transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal("100000")));
+        transactionService.transfer(new TransferRequest(accountNumber1, accountNumber2, new BigDecimal("100000")));
+
+        AccountSummaryResponse daily = accountSummaryService.getSummary(accountNumber1, null, null, SummaryPeriod.DAILY);
+        assertThat(daily.buckets()).hasSize(2);
+        SummaryBucketResponse deposits = daily.buckets().stream()
+                .filter(bucket -> bucket.type() == TransactionType.DEPOSIT).findFirst().orElseThrow();
+        assertThat(deposits.count()).isEqualTo(2);
+        assertThat(deposits.amount()).isEqualByComparingTo(new BigDecimal("600000"));
+        SummaryBucketResponse transfersOut = daily.buckets().stream()
+                .filter(bucket -> bucket.type() == TransactionType.TRANSFER_OUT).findFirst().orElseThrow();
+        assertThat(transfersOut.count()).isEqualTo(1);
+        assertThat(transfersOut.fee()).isEqualByComparingTo(new BigDecimal("1000"));
+
+        String thisYear = LocalDate.now().withDayOfYear(1).toString();
+        AccountSummaryResponse yearly = accountSummaryService.getSummary(accountNumber2, thisYear, null, SummaryPeriod.YEARLY);
+        assertThat(yearly.buckets()).singleElement().satisfies(bucket -> {
+            assertThat(bucket.periodStart()).isEqualTo(LocalDate.now().withDayOfYear(1));
+            assertThat(bucket.type()).isEqualTo(TransactionType.TRANSFER_IN);
+            assertThat(bucket.amount()).isEqualByComparingTo(new BigDecimal("100000"));
+        });
+    }
+
+    @Test
+    @DisplayName("기간/유형별 거래명세 조회 통합 테스트")
+    void statementByRangeAndType() {
+        for (int i = 1; i <= 3; i++) {
+            transactionService.deposit(new DepositRequest(accountNumber1, new BigDecimal(i * 10000)));
+        }
+        transactionService.withdraw(new WithdrawalRequest(accountNumber1, new BigDecimal("5000")));
+
+        String today = LocalDate.now().toString();
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+
+        StatementResponse firstPage = transactionService
+                .getStatement(accountNumber1, today, tomorrow, "deposit", null, 2);
+        assertThat(firstPage.type()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(firstPage.transactions()).extracting(TransactionResponse::type).containsOnly(TransactionType.DEPOSIT);
+        assertThat(firstPage.transactions().get(0).amount()).isEqualByComparingTo(new BigDecimal("30000"));
+        assertThat(firstPage.hasNext()).isTrue();
+
+        StatementResponse lastPage = transactionService
+                .getStatement(accountNumber1, today, tomorrow, "deposit", firstPage.nextCursor(), 2);
+        assertThat(lastPage.transactions()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+
+        StatementResponse all = transactionService.getStatement(accountNumber1, today, tomorrow, null, null, 20);
+        assertThat(all.transactions()).hasSize(4);
+
+        // `to` is exclusive: a range ending at the start of today holds nothing from today
+        StatementResponse yesterday = transactionService
+                .getStatement(accountNumber1, LocalDate.now().minusDays(1).toString(), today, null, null, 20);
+        assertThat(yesterday.transactions()).isEmpty();
+
+        // a cursor taken from a wider range does not page past `to`
+        StatementResponse reusedCursor = transactionService.getStatement(accountNumber1,
+                LocalDate.now().minusDays(1).toString(), today, null, firstPage.nextCursor(), 20);
+        assertThat(reusedCursor.transactions()).isEmpty();
+
+        assertThatThrownBy(() -> transactionService.getStatement(accountNumber1, tomorrow, today, null, null, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_STATEMENT_RANGE);
+    }
+
+    @Test
+    @DisplayName("원자적 입금 - 갱신된 계좌만 영속성 컨텍스트에서 분리하고 다른 엔티티는 유지")
+    void depositAtomically_DetachesOnlyUpdatedAccount() {
+        // given
+        Account updated = accountRepository.findByAccountNumber(accountNumber1).orElseThrow();
+        Account untouched = accountRepository.findByAccountNumber(accountNumber2).orElseThrow();
+
+        // when
+        BigDecimal balance = accountService.depositAtomically(accountNumber1, new BigDecimal("1000"));
+
+        // then
+        assertThat(balance).isEqualByComparingTo(new BigDecimal("1000"));
+        assertThat(entityManager.contains(updated)).isFalse();
+        assertThat(entityManager.contains(untouched)).isTrue();
+        assertThat(accountRepository.findByAccountNumber(accountNumber1).orElseThrow().getBalance())
+                .isEqualTo(Money.ofMajor(1000));
     }
-}
\ No newline at end of file
+}
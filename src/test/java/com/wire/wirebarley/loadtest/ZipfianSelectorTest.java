@@ -0,0 +1,66 @@
+package com.wire.wirebarley.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipfianSelectorTest {
+
+    private static final int ACCOUNTS = 10;
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("Zipfian 선택 - 모든 인덱스가 [0, n) 범위이고 순위 0이 가장 자주, 순위가 낮을수록 드물게 선택됨")
+    void next_RankZeroIsHottest() {
+        // given
+        ZipfianSelector selector = new ZipfianSelector(ACCOUNTS, 1.2);
+        int[] counts = new int[ACCOUNTS];
+
+        // when
+        for (int i = 0; i < SAMPLES; i++) {
+            int index = selector.next();
+            assertThat(index).isBetween(0, ACCOUNTS - 1);
+            counts[index]++;
+        }
+
+        // then: 1 / (rank + 1)^1.2 gives rank 0 about 41% and rank 1 about 18%, far apart for this sample size
+        assertThat(IntStream.range(1, ACCOUNTS).map(i -> counts[i])).allMatch(count -> count < counts[0]);
+        assertThat(counts[0]).isGreaterThan(2 * counts[1]);
+        assertThat(counts[ACCOUNTS - 1]).isLessThan(counts[1]);
+    }
+
+    @Test
+    @DisplayName("Zipfian 선택 - 지수 0이면 모든 인덱스가 고르게 선택됨")
+    void next_ZeroExponentIsUniform() {
+        // given
+        ZipfianSelector selector = new ZipfianSelector(ACCOUNTS, 0);
+        int[] counts = new int[ACCOUNTS];
+
+        // when
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[selector.next()]++;
+        }
+
+        // then: each index expects 10,000 samples; 20% off would be far outside random variation
+        int expected = SAMPLES / ACCOUNTS;
+        assertThat(IntStream.of(counts)).allMatch(count -> count > expected * 0.8 && count < expected * 1.2);
+    }
+
+    @Test
+    @DisplayName("이체 상대 계좌 선택 - 제외한 인덱스는 반환하지 않고, 계좌가 하나면 예외")
+    void nextOtherThan_NeverReturnsExcluded() {
+        // given
+        ZipfianSelector selector = new ZipfianSelector(ACCOUNTS, 1.2);
+
+        // when & then
+        for (int i = 0; i < SAMPLES; i++) {
+            assertThat(selector.nextOtherThan(0)).isBetween(1, ACCOUNTS - 1);
+        }
+        assertThatThrownBy(() -> new ZipfianSelector(1, 1.2).nextOtherThan(0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
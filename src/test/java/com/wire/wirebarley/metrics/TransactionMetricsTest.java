@@ -0,0 +1,79 @@
+package com.wire.wirebarley.metrics;
+
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.BatchTransferItemResult;
+import com.wire.wirebarley.dto.BatchTransferResponse;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.dto.TransferResponse;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics transactionMetrics = new TransactionMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("실패한 작업은 에러 코드로 태그되고 일일 한도 거절이 집계됨")
+    void recordOperation_FailureTaggedByErrorCode() {
+        // when
+        transactionMetrics.recordOperation("withdraw", 1_000_000, null);
+        transactionMetrics.recordOperation("withdraw", 2_000_000, ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+
+        // then
+        assertThat(meterRegistry.get("wirebarley.transaction.requests")
+                .tags("operation", "withdraw", "outcome", "success", "error", "none").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("wirebarley.transaction.requests")
+                .tags("operation", "withdraw", "outcome", "failure", "error", "L001").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("wirebarley.daily.limit.rejections")
+                .tag("type", "WITHDRAWAL").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입금/이체/일괄 이체 결과에서 거래 금액과 수수료 합계를 기록")
+    void recordResult_AmountsAndFees() {
+        // given
+        TransactionResponse deposit = new TransactionResponse(1L, "1234567890", TransactionType.DEPOSIT,
+                new BigDecimal("10000"), new BigDecimal("10000"), null, null, "Deposit", LocalDateTime.now());
+        TransferResponse transfer = new TransferResponse("1234567890", "0987654321", new BigDecimal("100000"),
+                new BigDecimal("1000.00"), new BigDecimal("899000.00"), new BigDecimal("100000"));
+        BatchTransferResponse batch = new BatchTransferResponse(List.of(
+                BatchTransferItemResult.success(0, transfer),
+                BatchTransferItemResult.failure(1, ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED)));
+
+        // when
+        transactionMetrics.recordResult(deposit);
+        transactionMetrics.recordResult(transfer);
+        transactionMetrics.recordResult(batch);
+
+        // then
+        assertThat(meterRegistry.get("wirebarley.transaction.amount")
+                .tag("type", "DEPOSIT").summary().totalAmount()).isEqualTo(10000);
+        assertThat(meterRegistry.get("wirebarley.transaction.amount")
+                .tag("type", "TRANSFER_OUT").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("wirebarley.transfer.fees").counter().count()).isEqualTo(2000);
+        assertThat(meterRegistry.get("wirebarley.daily.limit.rejections")
+                .tag("type", "TRANSFER_OUT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외를 응답과 같은 에러 코드로 분류")
+    void errorCodeOf() {
+        assertThat(TransactionMetrics.errorCodeOf(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE)))
+                .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+        assertThat(TransactionMetrics.errorCodeOf(new ObjectOptimisticLockingFailureException("Account", 1L)))
+                .isEqualTo(ErrorCode.CONCURRENT_UPDATE);
+        assertThat(TransactionMetrics.errorCodeOf(new IllegalStateException()))
+                .isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,153 @@
+package com.wire.wirebarley.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventLogTest {
+
+    private static final EventLog.RecordEncoder<String> ENCODER =
+            (offset, item) -> ("{\"offset\":" + offset + ",\"item\":\"" + item + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("오프셋으로 읽기 - 인덱스 간격과 세그먼트 경계를 넘어도 순서대로 반환")
+    void read_AcrossIndexIntervalAndSegments() throws Exception {
+        // given
+        EventLog eventLog = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        List<String> items = IntStream.range(0, 300).mapToObj(i -> "event-" + i).toList();
+
+        // when
+        long end = eventLog.append(items, ENCODER);
+
+        // then
+        assertThat(end).isEqualTo(300);
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(readAll(eventLog, 0, 7)).isEqualTo(IntStream.range(0, 300).mapToObj(this::line).toList());
+        assertThat(readAll(eventLog, EventLog.INDEX_INTERVAL + 3, 1000).get(0))
+                .isEqualTo(line(EventLog.INDEX_INTERVAL + 3));
+        assertThat(eventLog.read(300, 10).count()).isZero();
+        eventLog.close();
+    }
+
+    @Test
+    @DisplayName("다시 열면 기존 레코드를 복구하고 이어서 추가")
+    void reopen_RecoversEndOffset() throws Exception {
+        // given
+        EventLog eventLog = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        eventLog.append(IntStream.range(0, 100).mapToObj(i -> "event-" + i).toList(), ENCODER);
+        eventLog.close();
+
+        // when
+        EventLog reopened = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        reopened.append(List.of("event-100"), ENCODER);
+
+        // then
+        assertThat(reopened.endOffset()).isEqualTo(101);
+        assertThat(readAll(reopened, 95, 100))
+                .isEqualTo(IntStream.range(95, 101).mapToObj(this::line).toList());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("epoch - 기록이 있는 로그를 다시 열면 유지되고, 0부터 다시 시작하는 로그는 새 epoch")
+    void reopen_KeepsEpochOnlyWhileRecordsRemain(@TempDir Path otherDirectory) throws Exception {
+        // given
+        EventLog eventLog = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        eventLog.append(List.of("event-0"), ENCODER);
+        String epoch = eventLog.epoch();
+        eventLog.close();
+
+        // when
+        EventLog reopened = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        EventLog fresh = new EventLog(otherDirectory.toString(), DataSize.ofKilobytes(4));
+
+        // then
+        assertThat(reopened.epoch()).isEqualTo(epoch);
+        assertThat(fresh.epoch()).isNotEqualTo(epoch);
+        assertThat(fresh.endOffset()).isZero();
+        reopened.close();
+        fresh.close();
+    }
+
+    @Test
+    @DisplayName("배치 중간에 실패하면 배치 전체가 기록되지 않고 오프셋이 이어짐")
+    void append_FailureMidBatchLeavesNoRecords() throws Exception {
+        // given
+        EventLog eventLog = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        eventLog.append(IntStream.range(0, 10).mapToObj(i -> "event-" + i).toList(), ENCODER);
+        // Fails after the batch has already rolled into a new segment
+        EventLog.RecordEncoder<String> failing = (offset, item) -> {
+            if (offset == 150) {
+                throw new IllegalStateException("encoding failed");
+            }
+            return ENCODER.encode(offset, item);
+        };
+
+        // when
+        assertThatThrownBy(() -> eventLog.append(
+                IntStream.range(10, 200).mapToObj(i -> "event-" + i).toList(), failing))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(eventLog.endOffset()).isEqualTo(10);
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(readAll(eventLog, 0, 1000)).isEqualTo(IntStream.range(0, 10).mapToObj(this::line).toList());
+
+        eventLog.append(IntStream.range(10, 20).mapToObj(i -> "event-" + i).toList(), ENCODER);
+        assertThat(readAll(eventLog, 0, 1000)).isEqualTo(IntStream.range(0, 20).mapToObj(this::line).toList());
+        eventLog.close();
+
+        EventLog reopened = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        assertThat(reopened.endOffset()).isEqualTo(20);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("로그 끝에서 대기 - 새 레코드가 없으면 시간 초과")
+    void awaitRecords_TimesOutAtEnd() throws Exception {
+        // given
+        EventLog eventLog = new EventLog(directory.toString(), DataSize.ofKilobytes(4));
+        eventLog.append(List.of("event-0"), ENCODER);
+
+        // when & then
+        assertThat(eventLog.awaitRecords(0, Duration.ZERO)).isTrue();
+        assertThat(eventLog.awaitRecords(1, Duration.ofMillis(50))).isFalse();
+        eventLog.close();
+    }
+
+    private List<String> readAll(EventLog eventLog, long offset, int batch) {
+        StringBuilder records = new StringBuilder();
+        EventLog.Slice slice;
+        do {
+            slice = eventLog.read(offset, batch);
+            records.append(new String(slice.records(), StandardCharsets.UTF_8));
+            offset = slice.nextOffset();
+        } while (slice.count() > 0);
+        return records.toString().lines().toList();
+    }
+
+    private String line(int offset) {
+        return "{\"offset\":" + offset + ",\"item\":\"event-" + offset + "\"}";
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).toList();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wire.wirebarley.retry;
+
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConflictRetryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConflictRetry conflictRetry = new ConflictRetry(new TransactionMetrics(meterRegistry),
+            3, Duration.ZERO, Duration.ZERO);
+
+    @Test
+    @DisplayName("락 충돌 후 재시도하여 성공")
+    void execute_RecoversAfterConflict() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = conflictRetry.execute("transfer", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            return "done";
+        });
+
+        // then
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("wirebarley.transaction.retries")
+                .tags("operation", "transfer", "exception", "CannotAcquireLockException").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 CONCURRENT_UPDATE")
+    void execute_ExhaustedMapsToConcurrentUpdate() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> conflictRetry.execute("deposit", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Account", 1L);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CONCURRENT_UPDATE)
+                .hasCauseInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("wirebarley.transaction.retries.exhausted")
+                .tag("operation", "deposit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락 충돌이 아닌 예외는 재시도하지 않음")
+    void execute_DoesNotRetryBusinessErrors() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> conflictRetry.execute("withdraw", () -> {
+            attempts.incrementAndGet();
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("백오프는 지수적으로 증가하는 상한 이내의 무작위 값")
+    void backoffMillis_FullJitterWithinCap() {
+        ConflictRetry retry = new ConflictRetry(new TransactionMetrics(meterRegistry),
+                5, Duration.ofMillis(20), Duration.ofMillis(50));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(retry.backoffMillis(1)).isBetween(0L, 20L);
+            assertThat(retry.backoffMillis(2)).isBetween(0L, 40L);
+            assertThat(retry.backoffMillis(4)).isBetween(0L, 50L);
+        }
+    }
+}
@@ -2,16 +2,22 @@ package com.wire.wirebarley.service;
 
 import com.wire.wirebarley.domain.Account;
 import com.wire.wirebarley.dto.AccountCreateRequest;
+import com.wire.wirebarley.dto.AccountMetadata;
 import com.wire.wirebarley.dto.AccountResponse;
+import com.wire.wirebarley.event.AccountDeletedEvent;
 import com.wire.wirebarley.exception.BusinessException;
 import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
 import com.wire.wirebarley.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -28,6 +34,18 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountLookupService accountLookupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private LedgerBalances ledgerBalances = new LedgerBalances(null, false);
+
     @InjectMocks
     private AccountService accountService;
 
@@ -39,7 +57,7 @@ class AccountServiceTest {
         AccountCreateRequest request = new AccountCreateRequest(accountNumber);
         Account account = new Account(accountNumber);
 
-        given(accountRepository.existsByAccountNumber(accountNumber)).willReturn(false);
+        given(accountLookupService.findMetadata(accountNumber)).willReturn(Optional.empty());
         given(accountRepository.save(any(Account.class))).willReturn(account);
 
         // when
@@ -47,7 +65,7 @@ class AccountServiceTest {
 
         // then
         assertThat(response.accountNumber()).isEqualTo(accountNumber);
-        verify(accountRepository).existsByAccountNumber(accountNumber);
+        verify(accountLookupService).findMetadata(accountNumber);
         verify(accountRepository).save(any(Account.class));
     }
 
@@ -58,14 +76,15 @@ class AccountServiceTest {
         String accountNumber = "1234567890";
         AccountCreateRequest request = new AccountCreateRequest(accountNumber);
 
-        given(accountRepository.existsByAccountNumber(accountNumber)).willReturn(true);
+        given(accountLookupService.findMetadata(accountNumber))
+                .willReturn(Optional.of(new AccountMetadata(new Account(accountNumber))));
 
         // when & then
         assertThatThrownBy(() -> accountService.createAccount(request))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_ALREADY_EXISTS);
 
-        verify(accountRepository).existsByAccountNumber(accountNumber);
+        verify(accountLookupService).findMetadata(accountNumber);
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -85,6 +104,7 @@ class AccountServiceTest {
         // then
         verify(accountRepository).findByAccountNumber(accountNumber);
         verify(accountRepository).delete(account);
+        verify(eventPublisher).publishEvent(any(AccountDeletedEvent.class));
     }
 
     @Test
@@ -120,4 +140,20 @@ class AccountServiceTest {
         assertThat(response.accountNumber()).isEqualTo(accountNumber);
         verify(accountRepository).findByAccountNumber(accountNumber);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 존재 확인 실패 - 캐시/DB 모두 없음")
+    void verifyAccountExists_NotFound() {
+        // given
+        String accountNumber = "1234567890";
+
+        given(accountLookupService.findMetadata(accountNumber)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> accountService.verifyAccountExists(accountNumber))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+    }
+}
@@ -0,0 +1,126 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.async.CallbackUrlPolicy;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.TransferIntent;
+import com.wire.wirebarley.domain.TransferIntentStatus;
+import com.wire.wirebarley.dto.TransferIntentResponse;
+import com.wire.wirebarley.dto.TransferRequest;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
+import com.wire.wirebarley.repository.TransferIntentRepository;
+import com.wire.wirebarley.retry.ConflictRetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncTransferServiceTest {
+
+    private static final Long TRANSFER_ID = 1L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private TransferIntentRepository transferIntentRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AsyncTransferService asyncTransferService;
+
+    private TransferIntent intent;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        asyncTransferService = new AsyncTransferService(transferIntentRepository, transactionService, eventPublisher,
+                transactionManager,
+                new ConflictRetry(new TransactionMetrics(meterRegistry), 1, Duration.ZERO, Duration.ZERO),
+                new DatabaseBulkhead(meterRegistry, 10, Duration.ofSeconds(1)),
+                new CallbackUrlPolicy(List.of()),
+                MAX_ATTEMPTS, Duration.ofSeconds(1));
+        intent = new TransferIntent(new TransferRequest("1234567890", "0987654321", new BigDecimal("10000")), null);
+        given(transferIntentRepository.findByIdWithLock(TRANSFER_ID)).willReturn(Optional.of(intent));
+    }
+
+    @Test
+    @DisplayName("일시적 실패 - 대기 상태로 남고 다음 실행 시각이 미뤄짐")
+    void execute_TransientFailureDefers() {
+        // given
+        given(transactionService.transfer(any(TransferRequest.class)))
+                .willThrow(new BusinessException(ErrorCode.CONCURRENT_UPDATE));
+
+        // when
+        Optional<TransferIntentResponse> result = asyncTransferService.execute(TRANSFER_ID);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(intent.getStatus()).isEqualTo(TransferIntentStatus.PENDING);
+        assertThat(intent.getAttempts()).isEqualTo(1);
+        assertThat(intent.isDue(LocalDateTime.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("일시적 실패 - 최대 시도 횟수에 도달하면 실패로 기록")
+    void execute_TransientFailureFailsAfterMaxAttempts() {
+        // given
+        given(transactionService.transfer(any(TransferRequest.class)))
+                .willThrow(new BusinessException(ErrorCode.SERVER_BUSY));
+
+        // when
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            assertThat(asyncTransferService.execute(TRANSFER_ID)).isEmpty();
+        }
+        Optional<TransferIntentResponse> result = asyncTransferService.execute(TRANSFER_ID);
+
+        // then
+        assertThat(result).hasValueSatisfying(response -> {
+            assertThat(response.status()).isEqualTo(TransferIntentStatus.FAILED);
+            assertThat(response.errorCode()).isEqualTo(ErrorCode.SERVER_BUSY.getCode());
+        });
+        verify(transactionService, times(MAX_ATTEMPTS)).transfer(any(TransferRequest.class));
+    }
+
+    @Test
+    @DisplayName("원장 엔진 사용 불가 - 이미 적용되었을 수 있으므로 재시도하지 않고 실패로 기록")
+    void execute_LedgerEngineUnavailableIsNotRetried() {
+        // given
+        given(transactionService.transfer(any(TransferRequest.class)))
+                .willThrow(new BusinessException(ErrorCode.LEDGER_ENGINE_UNAVAILABLE));
+
+        // when
+        Optional<TransferIntentResponse> result = asyncTransferService.execute(TRANSFER_ID);
+
+        // then
+        assertThat(result).hasValueSatisfying(response -> {
+            assertThat(response.status()).isEqualTo(TransferIntentStatus.FAILED);
+            assertThat(response.errorCode()).isEqualTo(ErrorCode.LEDGER_ENGINE_UNAVAILABLE.getCode());
+        });
+        assertThat(intent.getAttempts()).isZero();
+    }
+}
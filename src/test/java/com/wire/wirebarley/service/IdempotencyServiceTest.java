@@ -0,0 +1,186 @@
+package com.wire.wirebarley.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.wire.wirebarley.bulkhead.DatabaseBulkhead;
+import com.wire.wirebarley.domain.IdempotencyRecord;
+import com.wire.wirebarley.domain.IdempotentOperation;
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.DepositRequest;
+import com.wire.wirebarley.dto.IdempotentResult;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.exception.BusinessException;
+import com.wire.wirebarley.exception.ErrorCode;
+import com.wire.wirebarley.metrics.TransactionMetrics;
+import com.wire.wirebarley.repository.IdempotencyRecordRepository;
+import com.wire.wirebarley.retry.ConflictRetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConflictRetry conflictRetry = new ConflictRetry(new TransactionMetrics(meterRegistry),
+                3, Duration.ZERO, Duration.ZERO);
+        DatabaseBulkhead databaseBulkhead = new DatabaseBulkhead(meterRegistry, 10, Duration.ofSeconds(1));
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, objectMapper, transactionManager,
+                conflictRetry, databaseBulkhead, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청 시 저장된 응답을 재사용하고 다시 실행하지 않음")
+    void execute_ReplaysCompletedResponse() {
+        // given
+        DepositRequest request = new DepositRequest("1234567890", new BigDecimal("10000"));
+        AtomicInteger executions = new AtomicInteger();
+
+        given(idempotencyRecordRepository.findByOperationAndIdempotencyKey(IdempotentOperation.DEPOSIT, "key-1"))
+                .willReturn(Optional.empty());
+
+        // when
+        IdempotentResult<TransactionResponse> first = idempotencyService.execute("key-1",
+                IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                () -> depositResponse(executions.incrementAndGet()));
+        IdempotentResult<TransactionResponse> second = idempotencyService.execute("key-1",
+                IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                () -> depositResponse(executions.incrementAndGet()));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.body()).isEqualTo(first.body());
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 키는 실행 없이 저장된 응답 반환")
+    void execute_ReplaysStoredRecord() throws Exception {
+        // given
+        DepositRequest request = new DepositRequest("1234567890", new BigDecimal("10000"));
+        TransactionResponse stored = depositResponse(1);
+        String requestHash = sha256(request);
+
+        given(idempotencyRecordRepository.findByOperationAndIdempotencyKey(IdempotentOperation.DEPOSIT, "key-1"))
+                .willReturn(Optional.of(new IdempotencyRecord(IdempotentOperation.DEPOSIT, "key-1", requestHash,
+                        objectMapper.writeValueAsString(stored))));
+
+        // when
+        IdempotentResult<TransactionResponse> result = idempotencyService.execute("key-1",
+                IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                () -> {
+                    throw new AssertionError("must not execute");
+                });
+
+        // then
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.body()).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 재사용하면 실패")
+    void execute_KeyReusedForDifferentRequest() {
+        // given
+        given(idempotencyRecordRepository.findByOperationAndIdempotencyKey(IdempotentOperation.DEPOSIT, "key-1"))
+                .willReturn(Optional.empty());
+        idempotencyService.execute("key-1", IdempotentOperation.DEPOSIT,
+                new DepositRequest("1234567890", new BigDecimal("10000")), TransactionResponse.class,
+                () -> depositResponse(1));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", IdempotentOperation.DEPOSIT,
+                new DepositRequest("1234567890", new BigDecimal("20000")), TransactionResponse.class,
+                () -> depositResponse(2)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 진행 중인 실행 결과를 공유")
+    void execute_CoalescesConcurrentDuplicates() throws Exception {
+        // given
+        DepositRequest request = new DepositRequest("1234567890", new BigDecimal("10000"));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(idempotencyRecordRepository.findByOperationAndIdempotencyKey(IdempotentOperation.DEPOSIT, "key-1"))
+                .willReturn(Optional.empty());
+
+        CompletableFuture<IdempotentResult<TransactionResponse>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                        () -> {
+                            started.countDown();
+                            await(release);
+                            return depositResponse(executions.incrementAndGet());
+                        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<IdempotentResult<TransactionResponse>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", IdempotentOperation.DEPOSIT, request, TransactionResponse.class,
+                        () -> depositResponse(executions.incrementAndGet())));
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).body()).isEqualTo(first.get().body());
+        assertThat(executions).hasValue(1);
+        verify(idempotencyRecordRepository, times(1)).save(any(IdempotencyRecord.class));
+    }
+
+    private TransactionResponse depositResponse(long id) {
+        return new TransactionResponse(id, "1234567890", TransactionType.DEPOSIT, new BigDecimal("10000"),
+                new BigDecimal("10000"), null, null, "Deposit", LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+
+    private String sha256(Object request) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.wire.wirebarley.service;
+
+import com.wire.wirebarley.domain.TransactionType;
+import com.wire.wirebarley.dto.TransactionResponse;
+import com.wire.wirebarley.repository.ArchivedTransactionRepository;
+import com.wire.wirebarley.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionHistoryReaderTest {
+
+    private static final String ACCOUNT_NUMBER = "6100000001";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @InjectMocks
+    private TransactionHistoryReader transactionHistoryReader;
+
+    @Test
+    @DisplayName("거래 내역 페이지 - 두 테이블 조회 사이에 보관된 거래는 한 번만 반환")
+    void findPage_RowArchivedBetweenReads_ReturnedOnce() {
+        // given: row 2 is read from the hot table, then an archive chunk moves it before the archive is read
+        given(archivedTransactionRepository.findNewestCreatedAt()).willReturn(NOW.minusMinutes(2));
+        given(transactionRepository.findLatestByAccountNumber(eq(ACCOUNT_NUMBER), any()))
+                .willReturn(List.of(row(4), row(3), row(2)));
+        given(archivedTransactionRepository.findLatestByAccountNumber(eq(ACCOUNT_NUMBER), any()))
+                .willReturn(List.of(row(2), row(1)));
+
+        // when
+        List<TransactionResponse> page = transactionHistoryReader.findPage(ACCOUNT_NUMBER, null, 4);
+
+        // then
+        assertThat(page).extracting(TransactionResponse::id).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 스트림 - 두 테이블 조회 사이에 보관된 거래는 한 번만 반환")
+    void streamHistory_RowArchivedBetweenReads_ReturnedOnce() {
+        // given
+        given(archivedTransactionRepository.findNewestCreatedAt()).willReturn(NOW.minusMinutes(2));
+        given(transactionRepository.streamByAccountNumber(ACCOUNT_NUMBER))
+                .willReturn(Stream.of(row(4), row(3), row(2)));
+        given(archivedTransactionRepository.streamByAccountNumber(ACCOUNT_NUMBER))
+                .willReturn(Stream.of(row(2), row(1)));
+
+        // when
+        List<Long> ids;
+        try (Stream<TransactionResponse> history = transactionHistoryReader.streamHistory(ACCOUNT_NUMBER)) {
+            ids = history.map(TransactionResponse::id).toList();
+        }
+
+        // then
+        assertThat(ids).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    // Row n is created n minutes after NOW - 5 minutes, so a larger id is also newer
+    private TransactionResponse row(long id) {
+        return new TransactionResponse(id, ACCOUNT_NUMBER, TransactionType.DEPOSIT, new BigDecimal("1000"),
+                new BigDecimal("1000"), null, null, null, NOW.minusMinutes(5).plusMinutes(id));
+    }
+}
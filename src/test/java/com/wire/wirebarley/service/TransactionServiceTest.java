@@ -1,12 +1,14 @@
 package com.wire.wirebarley.service;
 
 import com.wire.wirebarley.domain.Account;
-import com.wire.wirebarley.domain.DailyLimit;
+import com.wire.wirebarley.domain.Money;
 import com.wire.wirebarley.domain.Transaction;
 import com.wire.wirebarley.dto.*;
 import com.wire.wirebarley.exception.BusinessException;
 import com.wire.wirebarley.exception.ErrorCode;
 import com.wire.wirebarley.repository.DailyLimitRepository;
+import com.wire.wirebarley.repository.DailySummaryRepository;
+import com.wire.wirebarley.repository.OutboxEventRepository;
 import com.wire.wirebarley.repository.TransactionRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,15 +16,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 
@@ -38,6 +45,15 @@ class TransactionServiceTest {
     @Mock
     private DailyLimitRepository dailyLimitRepository;
 
+    @Mock
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -47,10 +63,9 @@ class TransactionServiceTest {
         // given
         String accountNumber = "1234567890";
         BigDecimal amount = new BigDecimal("10000");
-        Account account = new Account(accountNumber);
         DepositRequest request = new DepositRequest(accountNumber, amount);
 
-        given(accountService.findAccountByAccountNumberWithLock(accountNumber)).willReturn(account);
+        given(accountService.depositAtomically(accountNumber, amount)).willReturn(amount);
         given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -59,8 +74,10 @@ class TransactionServiceTest {
         // then
         assertThat(response.accountNumber()).isEqualTo(accountNumber);
         assertThat(response.amount()).isEqualByComparingTo(amount);
-        verify(accountService).findAccountByAccountNumberWithLock(accountNumber);
+        assertThat(response.balanceAfter()).isEqualByComparingTo(amount);
+        verify(accountService).depositAtomically(accountNumber, amount);
         verify(transactionRepository).save(any(Transaction.class));
+        verify(dailySummaryRepository).addEntries(anyList());
     }
 
     @Test
@@ -68,19 +85,14 @@ class TransactionServiceTest {
     void withdraw_Success() {
         // given
         String accountNumber = "1234567890";
-        BigDecimal initialBalance = new BigDecimal("100000");
         BigDecimal withdrawAmount = new BigDecimal("50000");
 
-        Account account = new Account(accountNumber);
-        account.deposit(initialBalance);
-
         WithdrawalRequest request = new WithdrawalRequest(accountNumber, withdrawAmount);
-        DailyLimit dailyLimit = new DailyLimit(accountNumber, LocalDate.now());
 
-        given(accountService.findAccountByAccountNumberWithLock(accountNumber)).willReturn(account);
-        given(dailyLimitRepository.findByAccountNumberAndTransactionDateWithLock(accountNumber, LocalDate.now()))
-                .willReturn(Optional.of(dailyLimit));
-        given(dailyLimitRepository.save(any(DailyLimit.class))).willReturn(dailyLimit);
+        given(accountService.withdrawAtomically(accountNumber, withdrawAmount)).willReturn(new BigDecimal("50000"));
+        given(dailyLimitRepository.addWithdrawalAmountWithinLimit(
+                eq(accountNumber), any(LocalDate.class), eq(withdrawAmount), any(BigDecimal.class)))
+                .willReturn(1);
         given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -88,8 +100,10 @@ class TransactionServiceTest {
 
         // then
         assertThat(response.amount()).isEqualByComparingTo(withdrawAmount);
-        verify(accountService).findAccountByAccountNumberWithLock(accountNumber);
-        verify(dailyLimitRepository).save(any(DailyLimit.class));
+        assertThat(response.balanceAfter()).isEqualByComparingTo(new BigDecimal("50000"));
+        verify(accountService).withdrawAtomically(accountNumber, withdrawAmount);
+        verify(dailyLimitRepository).addWithdrawalAmountWithinLimit(
+                eq(accountNumber), any(LocalDate.class), eq(withdrawAmount), eq(new BigDecimal("1000000.00")));
         verify(transactionRepository).save(any(Transaction.class));
     }
 
@@ -98,24 +112,20 @@ class TransactionServiceTest {
     void withdraw_DailyLimitExceeded() {
         // given
         String accountNumber = "1234567890";
-        BigDecimal initialBalance = new BigDecimal("2000000");
         BigDecimal withdrawAmount = new BigDecimal("600000");
 
-        Account account = new Account(accountNumber);
-        account.deposit(initialBalance);
-
         WithdrawalRequest request = new WithdrawalRequest(accountNumber, withdrawAmount);
-        DailyLimit dailyLimit = new DailyLimit(accountNumber, LocalDate.now());
-        dailyLimit.addWithdrawalAmount(new BigDecimal("500000"));
 
-        given(accountService.findAccountByAccountNumberWithLock(accountNumber)).willReturn(account);
-        given(dailyLimitRepository.findByAccountNumberAndTransactionDateWithLock(accountNumber, LocalDate.now()))
-                .willReturn(Optional.of(dailyLimit));
+        given(accountService.withdrawAtomically(accountNumber, withdrawAmount)).willReturn(new BigDecimal("1400000"));
+        given(dailyLimitRepository.addWithdrawalAmountWithinLimit(
+                eq(accountNumber), any(LocalDate.class), eq(withdrawAmount), any(BigDecimal.class)))
+                .willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> transactionService.withdraw(request))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        verify(transactionRepository, never()).save(any(Transaction.class));
     }
 
     @Test
@@ -127,20 +137,19 @@ class TransactionServiceTest {
         BigDecimal transferAmount = new BigDecimal("100000");
 
         Account sourceAccount = new Account(sourceAccountNumber);
-        sourceAccount.deposit(new BigDecimal("500000"));
+        sourceAccount.deposit(Money.ofMajor(500000));
 
         Account targetAccount = new Account(targetAccountNumber);
 
         TransferRequest request = new TransferRequest(sourceAccountNumber, targetAccountNumber, transferAmount);
-        DailyLimit dailyLimit = new DailyLimit(sourceAccountNumber, LocalDate.now());
 
         given(accountService.findAccountByAccountNumberWithLock(sourceAccountNumber)).willReturn(sourceAccount);
         given(accountService.findAccountByAccountNumberWithLock(targetAccountNumber)).willReturn(targetAccount);
         given(accountService.findAccountByAccountNumber(sourceAccountNumber)).willReturn(sourceAccount);
         given(accountService.findAccountByAccountNumber(targetAccountNumber)).willReturn(targetAccount);
-        given(dailyLimitRepository.findByAccountNumberAndTransactionDateWithLock(sourceAccountNumber, LocalDate.now()))
-                .willReturn(Optional.of(dailyLimit));
-        given(dailyLimitRepository.save(any(DailyLimit.class))).willReturn(dailyLimit);
+        given(dailyLimitRepository.addTransferAmountWithinLimit(
+                eq(sourceAccountNumber), any(LocalDate.class), eq(transferAmount), any(BigDecimal.class)))
+                .willReturn(1);
         given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -152,6 +161,60 @@ class TransactionServiceTest {
         verify(transactionRepository, times(2)).save(any(Transaction.class)); // transfer_out and transfer_in
     }
 
+    @Test
+    @DisplayName("이체 실패 - 일일 한도 초과 시 잔액 변경 없음")
+    void transfer_DailyLimitExceeded() {
+        // given
+        String sourceAccountNumber = "1234567890";
+        String targetAccountNumber = "0987654321";
+        BigDecimal transferAmount = new BigDecimal("100000");
+
+        Account sourceAccount = new Account(sourceAccountNumber);
+        sourceAccount.deposit(Money.ofMajor(500000));
+        Account targetAccount = new Account(targetAccountNumber);
+
+        TransferRequest request = new TransferRequest(sourceAccountNumber, targetAccountNumber, transferAmount);
+
+        given(accountService.findAccountByAccountNumber(sourceAccountNumber)).willReturn(sourceAccount);
+        given(accountService.findAccountByAccountNumber(targetAccountNumber)).willReturn(targetAccount);
+        given(dailyLimitRepository.addTransferAmountWithinLimit(
+                eq(sourceAccountNumber), any(LocalDate.class), eq(transferAmount), any(BigDecimal.class)))
+                .willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.transfer(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.ofMajor(500000));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.ZERO);
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("이체 실패 - 수수료 포함 잔액 부족")
+    void transfer_InsufficientBalance() {
+        // given
+        String sourceAccountNumber = "1234567890";
+        String targetAccountNumber = "0987654321";
+        BigDecimal transferAmount = new BigDecimal("100000");
+
+        Account sourceAccount = new Account(sourceAccountNumber);
+        sourceAccount.deposit(Money.ofMajor(100000));
+        Account targetAccount = new Account(targetAccountNumber);
+
+        TransferRequest request = new TransferRequest(sourceAccountNumber, targetAccountNumber, transferAmount);
+
+        given(accountService.findAccountByAccountNumber(sourceAccountNumber)).willReturn(sourceAccount);
+        given(accountService.findAccountByAccountNumber(targetAccountNumber)).willReturn(targetAccount);
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.transfer(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.ofMajor(100000));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
     @Test
     @DisplayName("이체 실패 - 동일 계좌")
     void transfer_SameAccount() {
@@ -165,4 +228,59 @@ class TransactionServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SAME_ACCOUNT_TRANSFER);
     }
+
+    @Test
+    @DisplayName("일괄 이체 - 실패 항목은 건너뛰고 나머지는 처리")
+    void transferBatch_PartialFailure() {
+        // given
+        String sourceAccountNumber = "1234567890";
+        String targetAccountNumber = "0987654321";
+
+        Account sourceAccount = new Account(sourceAccountNumber);
+        sourceAccount.deposit(Money.ofMajor(150000));
+        Account targetAccount = new Account(targetAccountNumber);
+
+        BatchTransferRequest request = new BatchTransferRequest(List.of(
+                new TransferRequest(sourceAccountNumber, targetAccountNumber, new BigDecimal("100000")),
+                new TransferRequest(sourceAccountNumber, sourceAccountNumber, new BigDecimal("1000")),
+                new TransferRequest(sourceAccountNumber, targetAccountNumber, new BigDecimal("100000")),
+                new TransferRequest(sourceAccountNumber, "5555555555", new BigDecimal("1000"))
+        ));
+
+        given(accountService.findAccountsByAccountNumbersWithLock(any()))
+                .willReturn(Map.of(sourceAccountNumber, sourceAccount, targetAccountNumber, targetAccount));
+        given(dailyLimitRepository.findAllByAccountNumberInAndTransactionDateWithLock(any(), any()))
+                .willReturn(List.of());
+
+        // when
+        BatchTransferResponse response = transactionService.transferBatch(request);
+
+        // then
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failureCount()).isEqualTo(3);
+        assertThat(response.results().get(1).errorCode()).isEqualTo(ErrorCode.SAME_ACCOUNT_TRANSFER.getCode());
+        assertThat(response.results().get(2).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE.getCode());
+        assertThat(response.results().get(3).errorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND.getCode());
+        assertThat(sourceAccount.getBalance()).isEqualTo(Money.ofMajor(49000));
+        assertThat(targetAccount.getBalance()).isEqualTo(Money.ofMajor(100000));
+        verify(transactionRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("출금 실패 - 잔액 부족")
+    void withdraw_InsufficientBalance() {
+        // given
+        String accountNumber = "1234567890";
+        BigDecimal withdrawAmount = new BigDecimal("50000");
+        WithdrawalRequest request = new WithdrawalRequest(accountNumber, withdrawAmount);
+
+        given(accountService.withdrawAtomically(accountNumber, withdrawAmount))
+                .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.withdraw(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_BALANCE);
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
 }
\ No newline at end of file